@@ -3,9 +3,11 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -22,8 +24,10 @@ import seedu.address.model.ReadOnlyHouseholdBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryHouseholdBookStorage;
 import seedu.address.storage.HouseholdBookStorage;
 import seedu.address.storage.JsonHouseholdBookStorage;
+import seedu.address.storage.JsonJournalHouseholdBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -46,34 +50,73 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private long initStartNanos;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing HouseholdBook ]===========================");
         super.init();
+        initStartNanos = System.nanoTime();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        long stepStartNanos = logStartupStep("Config", initStartNanos);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        HouseholdBookStorage householdBookStorage = new JsonHouseholdBookStorage(userPrefs.getHouseholdBookFilePath());
+        HouseholdBookStorage householdBookStorage = initHouseholdBookStorage(config, userPrefs);
         storage = new StorageManager(householdBookStorage, userPrefsStorage);
+        logStartupStep("Preferences", stepStartNanos);
 
-        model = initModelManager(storage, userPrefs);
+        if (config.isBackgroundLoadingEnabled()) {
+            // The data is loaded after the main window is shown, see start(Stage).
+            model = new ModelManager(new HouseholdBook(), userPrefs, MainApp::runOnFxThread);
+        } else {
+            model = initModelManager(storage, userPrefs);
+        }
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, config);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s household book and {@code userPrefs}. <br>
+     * Returns the storage for the household book data file in the format chosen in {@code userPrefs}.
+     */
+    private HouseholdBookStorage initHouseholdBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getHouseholdBookFilePath();
+        if (userPrefs.getHouseholdBookFormat() == UserPrefs.HouseholdBookFormat.BINARY) {
+            return new BinaryHouseholdBookStorage(filePath);
+        }
+        return config.isJournalEnabled()
+                ? new JsonJournalHouseholdBookStorage(filePath, config.isDataFilePrettyPrinted(),
+                        config.getDataFileBackupCount(), JsonJournalHouseholdBookStorage.DEFAULT_COMPACTION_THRESHOLD)
+                : new JsonHouseholdBookStorage(filePath, config.isDataFilePrettyPrinted(),
+                        config.getDataFileBackupCount());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s household book and {@code userPrefs}.
+     *
+     * @see #readInitialData(Storage)
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        ReadOnlyHouseholdBook initialData = readInitialData(storage);
+        long buildStartNanos = System.nanoTime();
+        Model initializedModel = new ModelManager(initialData, userPrefs, MainApp::runOnFxThread);
+        logStartupStep("Model build", buildStartNanos);
+        return initializedModel;
+    }
+
+    /**
+     * Returns the data from {@code storage}'s household book. <br>
      * The data from the sample household book will be used instead if {@code storage}'s household book is not found,
      * or an empty household book will be used instead if errors occur when reading {@code storage}'s household book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyHouseholdBook readInitialData(Storage storage) {
         logger.info("Using data file : " + storage.getHouseholdBookFilePath());
+        long readStartNanos = System.nanoTime();
 
         Optional<ReadOnlyHouseholdBook> householdBookOptional;
         ReadOnlyHouseholdBook initialData;
@@ -90,7 +133,55 @@ public class MainApp extends Application {
             initialData = new HouseholdBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        logStartupStep("Storage read", readStartNanos);
+        return initialData;
+    }
+
+    /**
+     * Reads the household book on the calling thread, then replaces the model's data with it on the JavaFX
+     * application thread in a single change and runs the commands entered while it was loading.
+     */
+    private void loadInBackground() {
+        ReadOnlyHouseholdBook initialData;
+        try {
+            initialData = readInitialData(storage);
+        } catch (RuntimeException e) {
+            logger.severe("Failed to load household book " + StringUtil.getDetails(e)
+                    + " Will be starting with an empty HouseholdBook.");
+            initialData = new HouseholdBook();
+        }
+
+        ReadOnlyHouseholdBook loadedData = initialData;
+        Platform.runLater(() -> {
+            long buildStartNanos = System.nanoTime();
+            model.getHouseholdBook().resetData(loadedData);
+            logic.markHouseholdBookSaved();
+            logStartupStep("Model build", buildStartNanos);
+            logStartupStep("Startup with data", initStartNanos);
+            ui.showLoaded();
+        });
+    }
+
+    /**
+     * Runs {@code task} now if called on the JavaFX application thread, or later on that thread otherwise,
+     * so that the model's lists only ever notify the UI there.
+     */
+    private static void runOnFxThread(Runnable task) {
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
+    }
+
+    /**
+     * Logs the time taken by a startup {@code step} that began at {@code stepStartNanos}
+     * and returns the current time, when the next step begins.
+     */
+    private static long logStartupStep(String step, long stepStartNanos) {
+        long now = System.nanoTime();
+        logger.info(step + " took " + TimeUnit.NANOSECONDS.toMillis(now - stepStartNanos) + " ms");
+        return now;
     }
 
     private void initLogging(Config config) {
@@ -172,11 +263,24 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting HouseholdBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        logStartupStep("First paint", initStartNanos);
+
+        if (config.isBackgroundLoadingEnabled()) {
+            ui.showLoading();
+            Thread loadingThread = new Thread(this::loadInBackground, "household-book-loader");
+            loadingThread.setDaemon(true);
+            loadingThread.start();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping HouseholdBook ] =============================");
+        try {
+            logic.flushPendingSaves();
+        } catch (IOException e) {
+            logger.severe("Failed to save household book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -13,10 +13,30 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_SAVE_INTERVAL_MILLIS = 2000;
+    public static final int DEFAULT_DATA_FILE_BACKUP_COUNT = 3;
+
+    /**
+     * How the household book is written to disk after each command.
+     */
+    public enum SaveMode {
+        /** Save on the calling thread before the command returns. */
+        SYNC,
+        /** Save on a background thread as soon as possible, coalescing saves that queue up. */
+        ASYNC,
+        /** Save on a background thread at most once every {@code saveIntervalMillis}. */
+        INTERVAL
+    }
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private SaveMode saveMode = SaveMode.SYNC;
+    private long saveIntervalMillis = DEFAULT_SAVE_INTERVAL_MILLIS;
+    private boolean journalEnabled = false;
+    private boolean dataFilePrettyPrinted = true;
+    private int dataFileBackupCount = DEFAULT_DATA_FILE_BACKUP_COUNT;
+    private boolean backgroundLoadingEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +54,54 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public SaveMode getSaveMode() {
+        return saveMode;
+    }
+
+    public void setSaveMode(SaveMode saveMode) {
+        this.saveMode = saveMode;
+    }
+
+    public long getSaveIntervalMillis() {
+        return saveIntervalMillis;
+    }
+
+    public void setSaveIntervalMillis(long saveIntervalMillis) {
+        this.saveIntervalMillis = saveIntervalMillis;
+    }
+
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public boolean isDataFilePrettyPrinted() {
+        return dataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean dataFilePrettyPrinted) {
+        this.dataFilePrettyPrinted = dataFilePrettyPrinted;
+    }
+
+    public int getDataFileBackupCount() {
+        return dataFileBackupCount;
+    }
+
+    public void setDataFileBackupCount(int dataFileBackupCount) {
+        this.dataFileBackupCount = dataFileBackupCount;
+    }
+
+    public boolean isBackgroundLoadingEnabled() {
+        return backgroundLoadingEnabled;
+    }
+
+    public void setBackgroundLoadingEnabled(boolean backgroundLoadingEnabled) {
+        this.backgroundLoadingEnabled = backgroundLoadingEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +115,19 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveMode == otherConfig.saveMode
+                && saveIntervalMillis == otherConfig.saveIntervalMillis
+                && journalEnabled == otherConfig.journalEnabled
+                && dataFilePrettyPrinted == otherConfig.dataFilePrettyPrinted
+                && dataFileBackupCount == otherConfig.dataFileBackupCount
+                && backgroundLoadingEnabled == otherConfig.backgroundLoadingEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveMode, saveIntervalMillis, journalEnabled,
+                dataFilePrettyPrinted, dataFileBackupCount, backgroundLoadingEnabled);
     }
 
     @Override
@@ -60,6 +135,12 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveMode", saveMode)
+                .add("saveIntervalMillis", saveIntervalMillis)
+                .add("journalEnabled", journalEnabled)
+                .add("dataFilePrettyPrinted", dataFilePrettyPrinted)
+                .add("dataFileBackupCount", dataFileBackupCount)
+                .add("backgroundLoadingEnabled", backgroundLoadingEnabled)
                 .toString();
     }
 
@@ -0,0 +1,147 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.TreeSet;
+
+/**
+ * Finds whether a text contains any of a set of keywords, reading the text once however many keywords there are.
+ *
+ * <p>The keywords are compiled into an Aho-Corasick automaton: a trie of the keywords in which every state also
+ * knows where to go on a character that does not continue the keyword it is in. Matching then takes one table
+ * lookup per character of the text.</p>
+ *
+ * <p>When ignoring case, each character is compared after {@link StringUtil#foldCase(char)}, so keywords and
+ * texts that are equal under {@link String#equalsIgnoreCase(String)} match.</p>
+ */
+public class KeywordMatcher {
+    private static final int ASCII_LIMIT = 128;
+    private static final int ROOT = 0;
+
+    private final boolean isIgnoringCase;
+    /** Symbol of each ASCII character; 0 for characters that occur in no keyword. */
+    private final int[] asciiSymbols = new int[ASCII_LIMIT];
+    /** Other characters that occur in keywords, sorted. Their symbols follow those of the ASCII characters. */
+    private final char[] otherChars;
+    private final int asciiSymbolCount;
+    private final int symbolCount;
+    /** The state after reading a symbol in a state, at {@code state * symbolCount + symbol}. */
+    private final int[] transitions;
+    /** Whether a keyword ends at each state. */
+    private final boolean[] isMatch;
+
+    /**
+     * Compiles {@code keywords} into a matcher.
+     *
+     * @param isIgnoringCase whether a text matches a keyword that only differs from it in case.
+     */
+    public KeywordMatcher(Collection<String> keywords, boolean isIgnoringCase) {
+        requireNonNull(keywords);
+        this.isIgnoringCase = isIgnoringCase;
+
+        // Number the characters used by the keywords; all other characters share symbol 0.
+        TreeSet<Character> others = new TreeSet<>();
+        int nextSymbol = 1;
+        int maxStates = 1;
+        for (String keyword : keywords) {
+            maxStates += keyword.length();
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = foldIfIgnoringCase(keyword.charAt(i));
+                if (c >= ASCII_LIMIT) {
+                    others.add(c);
+                } else if (asciiSymbols[c] == 0) {
+                    asciiSymbols[c] = nextSymbol++;
+                }
+            }
+        }
+        asciiSymbolCount = nextSymbol;
+        otherChars = new char[others.size()];
+        int otherIndex = 0;
+        for (char c : others) {
+            otherChars[otherIndex++] = c;
+        }
+        symbolCount = asciiSymbolCount + otherChars.length;
+
+        // Build the trie, with -1 for missing children.
+        int[] table = new int[maxStates * symbolCount];
+        Arrays.fill(table, -1);
+        boolean[] ends = new boolean[maxStates];
+        int stateCount = 1;
+        for (String keyword : keywords) {
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                int index = state * symbolCount + symbolOf(foldIfIgnoringCase(keyword.charAt(i)));
+                if (table[index] < 0) {
+                    table[index] = stateCount++;
+                }
+                state = table[index];
+            }
+            ends[state] = true;
+        }
+
+        // Fill in missing children breadth first from the state the longest proper suffix leads to.
+        int[] fallbacks = new int[stateCount];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < symbolCount; symbol++) {
+            int child = table[symbol];
+            if (child < 0) {
+                table[symbol] = ROOT;
+            } else {
+                fallbacks[child] = ROOT;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            ends[state] |= ends[fallbacks[state]];
+            for (int symbol = 0; symbol < symbolCount; symbol++) {
+                int index = state * symbolCount + symbol;
+                int fallbackNext = table[fallbacks[state] * symbolCount + symbol];
+                if (table[index] < 0) {
+                    table[index] = fallbackNext;
+                } else {
+                    fallbacks[table[index]] = fallbackNext;
+                    queue.add(table[index]);
+                }
+            }
+        }
+
+        transitions = Arrays.copyOf(table, stateCount * symbolCount);
+        isMatch = Arrays.copyOf(ends, stateCount);
+    }
+
+    /**
+     * Returns true if {@code text} contains any of the keywords.
+     * An empty keyword is contained in every text.
+     */
+    public boolean matchesAny(String text) {
+        int state = ROOT;
+        if (isMatch[state]) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = foldIfIgnoringCase(text.charAt(i));
+            state = transitions[state * symbolCount + symbolOf(c)];
+            if (isMatch[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int symbolOf(char c) {
+        if (c < ASCII_LIMIT) {
+            return asciiSymbols[c];
+        }
+        int index = Arrays.binarySearch(otherChars, c);
+        return index < 0 ? 0 : asciiSymbolCount + index;
+    }
+
+    private char foldIfIgnoringCase(char c) {
+        return isIgnoringCase ? StringUtil.foldCase(c) : c;
+    }
+}
@@ -0,0 +1,497 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * An immutable list that shares its structure with the lists derived from it.
+ *
+ * <p>Elements are held in a trie of nodes of up to 32 children, plus a tail node for the last elements. Each
+ * branch knows how many elements are under each of its children, so nodes need not be full and an element is
+ * found by its index in O(log n) time. Appending, replacing and removing an element copy only the nodes on the
+ * path to it, so they take O(log n) time and leave the original list unchanged. Filtering reuses every node none
+ * of whose elements are removed. The list itself cannot be modified through the {@link List} methods.</p>
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final Object[] NO_ELEMENTS = new Object[0];
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, 0, null, NO_ELEMENTS);
+
+    private final int size;
+    /**
+     * The number of levels in the trie: 0 if it is empty, 1 if the root is a leaf holding the elements themselves,
+     * and more if the root is a {@link Branch}.
+     */
+    private final int height;
+    /** The trie holding every element before the tail, or null if there are none. */
+    private final Object root;
+    /** The last 1 to 32 elements, or none if the list is empty. */
+    private final Object[] tail;
+
+    private PersistentVector(int size, int height, Object root, Object[] tail) {
+        this.size = size;
+        this.height = height;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order.
+     * Returns {@code elements} itself if it is already a {@code PersistentVector}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentVector) {
+            return (PersistentVector<E>) elements;
+        }
+        return build(elements.toArray());
+    }
+
+    /**
+     * Builds the trie bottom-up, one level of full nodes at a time, rather than appending each element.
+     */
+    private static <E> PersistentVector<E> build(Object[] elements) {
+        int size = elements.length;
+        if (size == 0) {
+            return empty();
+        }
+        int tailOffset = ((size - 1) / WIDTH) * WIDTH;
+        List<Object> nodes = new ArrayList<>();
+        for (int i = 0; i < tailOffset; i += WIDTH) {
+            nodes.add(Arrays.copyOfRange(elements, i, i + WIDTH));
+        }
+        int height = nodes.isEmpty() ? 0 : 1;
+        while (nodes.size() > 1) {
+            List<Object> parents = new ArrayList<>();
+            for (int i = 0; i < nodes.size(); i += WIDTH) {
+                parents.add(new Branch(nodes.subList(i, Math.min(i + WIDTH, nodes.size())).toArray(), height));
+            }
+            nodes = parents;
+            height++;
+        }
+        Object root = nodes.isEmpty() ? null : nodes.get(0);
+        return new PersistentVector<>(size, height, root, Arrays.copyOfRange(elements, tailOffset, size));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        int trieSize = size - tail.length;
+        if (index >= trieSize) {
+            return (E) tail[index - trieSize];
+        }
+        Object node = root;
+        for (int level = height; level > 1; level--) {
+            Branch branch = (Branch) node;
+            int child = branch.childIndex(index, level);
+            index -= branch.startOf(child);
+            node = branch.children[child];
+        }
+        return (E) ((Object[]) node)[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns this list with {@code element} added at the end.
+     */
+    public PersistentVector<E> append(E element) {
+        if (tail.length < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, height, root, newTail);
+        }
+        // The tail is full, so it moves into the trie, which grows a level once its rightmost path is full.
+        Object newRoot;
+        int newHeight = height;
+        if (height == 0) {
+            newRoot = tail;
+            newHeight = 1;
+        } else {
+            newRoot = height == 1 ? null : ((Branch) root).pushLeaf(height, tail);
+            if (newRoot == null) {
+                newRoot = new Branch(new Object[] {root, newPath(height, tail)}, height);
+                newHeight++;
+            }
+        }
+        return new PersistentVector<>(size + 1, newHeight, newRoot, new Object[] {element});
+    }
+
+    /**
+     * Returns a node of {@code height} levels holding only {@code leaf}.
+     */
+    private static Object newPath(int height, Object[] leaf) {
+        Object node = leaf;
+        for (int level = 1; level < height; level++) {
+            node = new Branch(new Object[] {node}, level);
+        }
+        return node;
+    }
+
+    /**
+     * Returns this list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not an index of this list.
+     */
+    public PersistentVector<E> with(int index, E element) {
+        Objects.checkIndex(index, size);
+        int trieSize = size - tail.length;
+        if (index >= trieSize) {
+            Object[] newTail = tail.clone();
+            newTail[index - trieSize] = element;
+            return new PersistentVector<>(size, height, root, newTail);
+        }
+        return new PersistentVector<>(size, height, replace(root, height, index, element), tail);
+    }
+
+    private static Object replace(Object node, int height, int index, Object element) {
+        if (height == 1) {
+            Object[] leaf = ((Object[]) node).clone();
+            leaf[index] = element;
+            return leaf;
+        }
+        Branch branch = (Branch) node;
+        int child = branch.childIndex(index, height);
+        Object[] children = branch.children.clone();
+        children[child] = replace(children[child], height - 1, index - branch.startOf(child), element);
+        return new Branch(children, branch.sizes);
+    }
+
+    /**
+     * Returns this list without the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not an index of this list.
+     */
+    public PersistentVector<E> without(int index) {
+        Objects.checkIndex(index, size);
+        int trieSize = size - tail.length;
+        if (index >= trieSize) {
+            Object[] newTail = new Object[tail.length - 1];
+            int tailIndex = index - trieSize;
+            System.arraycopy(tail, 0, newTail, 0, tailIndex);
+            System.arraycopy(tail, tailIndex + 1, newTail, tailIndex, newTail.length - tailIndex);
+            return withTrie(size - 1, height, root, newTail);
+        }
+        return withTrie(size - 1, height, remove(root, height, index), tail);
+    }
+
+    /**
+     * Returns {@code node} without the element at {@code index} under it, or null if it was its only element.
+     */
+    private static Object remove(Object node, int height, int index) {
+        if (height == 1) {
+            Object[] leaf = (Object[]) node;
+            if (leaf.length == 1) {
+                return null;
+            }
+            Object[] newLeaf = new Object[leaf.length - 1];
+            System.arraycopy(leaf, 0, newLeaf, 0, index);
+            System.arraycopy(leaf, index + 1, newLeaf, index, newLeaf.length - index);
+            return newLeaf;
+        }
+        Branch branch = (Branch) node;
+        int child = branch.childIndex(index, height);
+        Object[] children = branch.children.clone();
+        children[child] = remove(children[child], height - 1, index - branch.startOf(child));
+        return Branch.of(children, height);
+    }
+
+    /**
+     * Returns this list without the elements that do not satisfy {@code predicate}, or this list itself if every
+     * element does.
+     */
+    public PersistentVector<E> filter(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        Object newRoot = root == null ? null : filter(root, height, predicate);
+        Object[] newTail = filterLeaf(tail, predicate);
+        if (newRoot == root && newTail == tail) {
+            return this;
+        }
+        int newSize = newTail.length + (newRoot == null ? 0 : sizeOf(newRoot, height));
+        return withTrie(newSize, height, newRoot, newTail);
+    }
+
+    /**
+     * Returns {@code node} without the elements under it that do not satisfy {@code predicate}, {@code node}
+     * itself if every element does, or null if none does.
+     */
+    private static Object filter(Object node, int height, Predicate<?> predicate) {
+        if (height == 1) {
+            Object[] leaf = filterLeaf((Object[]) node, predicate);
+            return leaf.length == 0 ? null : leaf;
+        }
+        Branch branch = (Branch) node;
+        Object[] children = null;
+        for (int i = 0; i < branch.children.length; i++) {
+            Object child = filter(branch.children[i], height - 1, predicate);
+            if (child != branch.children[i] && children == null) {
+                children = branch.children.clone();
+            }
+            if (children != null) {
+                children[i] = child;
+            }
+        }
+        return children == null ? branch : Branch.of(children, height);
+    }
+
+    /**
+     * Returns the elements of {@code leaf} that satisfy {@code predicate}, or {@code leaf} itself if all do.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object[] filterLeaf(Object[] leaf, Predicate<?> predicate) {
+        Predicate<Object> test = (Predicate<Object>) predicate;
+        Object[] kept = null;
+        int keptCount = 0;
+        for (int i = 0; i < leaf.length; i++) {
+            if (test.test(leaf[i])) {
+                if (kept != null) {
+                    kept[keptCount] = leaf[i];
+                }
+                keptCount++;
+            } else if (kept == null) {
+                kept = Arrays.copyOf(leaf, leaf.length);
+            }
+        }
+        return kept == null ? leaf : Arrays.copyOf(kept, keptCount);
+    }
+
+    /**
+     * Returns a list of {@code size} elements with the trie {@code root} of {@code height} levels and the tail
+     * {@code tail}, after restoring the shape every list keeps: the tail is empty only if the whole list is, and a
+     * root branch has more than one child.
+     */
+    private static <E> PersistentVector<E> withTrie(int size, int height, Object root, Object[] tail) {
+        if (root == null) {
+            return tail.length == 0 ? empty() : new PersistentVector<>(size, 0, null, tail);
+        }
+        if (tail.length == 0) {
+            // The last leaf of the trie becomes the tail.
+            Object[] lastLeaf = lastLeaf(root, height);
+            root = removeLastLeaf(root, height);
+            tail = lastLeaf;
+            if (root == null) {
+                return new PersistentVector<>(size, 0, null, tail);
+            }
+        }
+        while (height > 1 && ((Branch) root).children.length == 1) {
+            root = ((Branch) root).children[0];
+            height--;
+        }
+        return new PersistentVector<>(size, height, root, tail);
+    }
+
+    private static Object[] lastLeaf(Object node, int height) {
+        for (int level = height; level > 1; level--) {
+            Object[] children = ((Branch) node).children;
+            node = children[children.length - 1];
+        }
+        return (Object[]) node;
+    }
+
+    private static Object removeLastLeaf(Object node, int height) {
+        if (height == 1) {
+            return null;
+        }
+        Object[] children = ((Branch) node).children.clone();
+        children[children.length - 1] = removeLastLeaf(children[children.length - 1], height - 1);
+        return Branch.of(children, height);
+    }
+
+    /**
+     * Returns the number of elements under {@code node}, which has {@code height} levels.
+     */
+    private static int sizeOf(Object node, int height) {
+        return height == 1 ? ((Object[]) node).length : ((Branch) node).size();
+    }
+
+    /**
+     * Returns the number of children of {@code node}, which has {@code height} levels.
+     */
+    private static int widthOf(Object node, int height) {
+        return height == 1 ? ((Object[]) node).length : ((Branch) node).children.length;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private Object[] leaf = NO_ELEMENTS;
+            private int leafIndex;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (leafIndex == leaf.length) {
+                    leaf = leafContaining(index);
+                    leafIndex = 0;
+                }
+                index++;
+                return (E) leaf[leafIndex++];
+            }
+        };
+    }
+
+    /**
+     * Returns the leaf or tail that starts with the element at {@code index}, which must be the first element of a
+     * leaf.
+     */
+    private Object[] leafContaining(int index) {
+        int trieSize = size - tail.length;
+        if (index >= trieSize) {
+            return tail;
+        }
+        Object node = root;
+        for (int level = height; level > 1; level--) {
+            Branch branch = (Branch) node;
+            int child = branch.childIndex(index, level);
+            index -= branch.startOf(child);
+            node = branch.children[child];
+        }
+        return (Object[]) node;
+    }
+
+    /**
+     * A node above the leaves of the trie, with the number of elements under each of its children.
+     */
+    private static final class Branch {
+        private final Object[] children;
+        /** The number of elements under {@code children[0]} up to and including {@code children[i]}, at i. */
+        private final int[] sizes;
+
+        private Branch(Object[] children, int[] sizes) {
+            this.children = children;
+            this.sizes = sizes;
+        }
+
+        /**
+         * Creates a branch of {@code children}, each of which has {@code childHeight} levels.
+         */
+        private Branch(Object[] children, int childHeight) {
+            this(children, new int[children.length]);
+            int total = 0;
+            for (int i = 0; i < children.length; i++) {
+                total += sizeOf(children[i], childHeight);
+                sizes[i] = total;
+            }
+        }
+
+        /**
+         * Returns a branch of {@code height} levels with the non-null nodes of {@code children}, in order, or null
+         * if there are none. Neighbouring children that fit in one node are merged, so that nodes stay at least
+         * about half full however many elements are removed.
+         */
+        private static Branch of(Object[] children, int height) {
+            int childHeight = height - 1;
+            List<Object> kept = new ArrayList<>(children.length);
+            for (Object child : children) {
+                if (child == null) {
+                    continue;
+                }
+                int last = kept.size() - 1;
+                if (last >= 0 && widthOf(kept.get(last), childHeight) + widthOf(child, childHeight) <= WIDTH) {
+                    kept.set(last, merge(kept.get(last), child, childHeight));
+                } else {
+                    kept.add(child);
+                }
+            }
+            return kept.isEmpty() ? null : new Branch(kept.toArray(), childHeight);
+        }
+
+        private static Object merge(Object left, Object right, int height) {
+            if (height == 1) {
+                Object[] leftLeaf = (Object[]) left;
+                Object[] rightLeaf = (Object[]) right;
+                Object[] merged = Arrays.copyOf(leftLeaf, leftLeaf.length + rightLeaf.length);
+                System.arraycopy(rightLeaf, 0, merged, leftLeaf.length, rightLeaf.length);
+                return merged;
+            }
+            Object[] leftChildren = ((Branch) left).children;
+            Object[] rightChildren = ((Branch) right).children;
+            Object[] merged = Arrays.copyOf(leftChildren, leftChildren.length + rightChildren.length);
+            System.arraycopy(rightChildren, 0, merged, leftChildren.length, rightChildren.length);
+            return new Branch(merged, height - 1);
+        }
+
+        private int size() {
+            return sizes[sizes.length - 1];
+        }
+
+        /**
+         * Returns the index of the child holding the element at {@code index} under this branch, which has
+         * {@code height} levels.
+         */
+        private int childIndex(int index, int height) {
+            // A child holds at most WIDTH^(height - 1) elements, so the search starts from the child that would
+            // hold the element if every node were full, which it is unless elements were removed.
+            int child = index >>> (BITS * (height - 1));
+            while (sizes[child] <= index) {
+                child++;
+            }
+            return child;
+        }
+
+        /**
+         * Returns the index under this branch of the first element under {@code children[child]}.
+         */
+        private int startOf(int child) {
+            return child == 0 ? 0 : sizes[child - 1];
+        }
+
+        /**
+         * Returns this branch, which has {@code height} levels, with {@code leaf} added after its last element,
+         * or null if its rightmost path has no room for another leaf.
+         */
+        private Branch pushLeaf(int height, Object[] leaf) {
+            if (height > 2) {
+                Branch last = ((Branch) children[children.length - 1]).pushLeaf(height - 1, leaf);
+                if (last != null) {
+                    Object[] newChildren = children.clone();
+                    newChildren[children.length - 1] = last;
+                    int[] newSizes = sizes.clone();
+                    newSizes[sizes.length - 1] += leaf.length;
+                    return new Branch(newChildren, newSizes);
+                }
+            }
+            if (children.length == WIDTH) {
+                return null;
+            }
+            Object[] newChildren = Arrays.copyOf(children, children.length + 1);
+            newChildren[children.length] = newPath(height - 1, leaf);
+            int[] newSizes = Arrays.copyOf(sizes, sizes.length + 1);
+            newSizes[sizes.length] = size() + leaf.length;
+            return new Branch(newChildren, newSizes);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.commons.util;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 
 import seedu.address.model.session.SessionDate;
 import seedu.address.model.session.SessionTime;
@@ -30,4 +32,16 @@ public class SessionUtils {
         }
         return false;
     }
+
+    /**
+     * Returns the number of minutes between the epoch and the given session date and time.
+     * The value is zone-independent, so two sessions share a time slot exactly when their epoch-minutes are equal.
+     *
+     * @param sessionDate The session's date. Must not be null.
+     * @param sessionTime The session's time. Must not be null.
+     * @return The epoch-minute of the session's time slot.
+     */
+    public static long toEpochMinute(SessionDate sessionDate, SessionTime sessionTime) {
+        return LocalDateTime.of(sessionDate.value, sessionTime.value).toEpochSecond(ZoneOffset.UTC) / 60;
+    }
 }
@@ -65,4 +65,27 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns {@code s} with every character case-folded, so that two strings are equal after folding
+     * exactly when they are equal under {@link String#equalsIgnoreCase(String)}.
+     * The result can be used as a hash key for case-insensitive lookups.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        char[] folded = new char[s.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = foldCase(s.charAt(i));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns {@code c} case-folded, so that two characters are equal after folding exactly when they are equal
+     * under {@link String#equalsIgnoreCase(String)}.
+     */
+    public static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.function.Predicate;
 
@@ -10,6 +11,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.HouseholdBook;
 import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
 import seedu.address.model.session.Session;
 
 /**
@@ -25,6 +27,18 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Writes any household book state that is still waiting to be saved and stops background saving.
+     * @throws IOException If the final save fails.
+     */
+    void flushPendingSaves() throws IOException;
+
+    /**
+     * Records that the household book now holds the data in its data file, as it does right after loading,
+     * so that commands save it only once they change it.
+     */
+    void markHouseholdBookSaved();
+
     /** Returns the HouseholdBook */
     HouseholdBook getHouseholdBook();
 
@@ -37,6 +51,12 @@ public interface Logic {
     /** Updates the filter of the filtered session list to filter by the given predicate */
     void updateFilteredSessionList(Predicate<Session> predicate);
 
+    /** Shows only the sessions of the household with the given ID in the filtered list of sessions */
+    void updateFilteredSessionListToHousehold(HouseholdId householdId);
+
+    /** Shows no sessions in the filtered list of sessions */
+    void clearFilteredSessionList();
+
     /** Updates the filter of the filtered household list to filter by the given predicate */
     void updateFilteredHouseholdList(Predicate<Household> predicate);
 
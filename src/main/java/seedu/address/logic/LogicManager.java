@@ -3,10 +3,12 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
@@ -17,7 +19,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.HouseholdBook;
 import seedu.address.model.Model;
 import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
 import seedu.address.model.session.Session;
+import seedu.address.storage.AsyncHouseholdBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -33,14 +37,39 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final HouseholdBookParser householdBookParser;
+    /** Saves the household book in the background, or null if saves are synchronous. */
+    private final AsyncHouseholdBookSaver asyncSaver;
+    /** Modification count of the household book when it last matched the data file, or -1 if it may not. */
+    private long savedModificationCount;
+    private long skippedSaveCount;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves synchronously after every command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Config.SaveMode.SYNC, 0);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves as configured by {@code config}.
+     */
+    public LogicManager(Model model, Storage storage, Config config) {
+        this(model, storage, config.getSaveMode(), config.getSaveIntervalMillis());
+    }
+
+    private LogicManager(Model model, Storage storage, Config.SaveMode saveMode, long saveIntervalMillis) {
         this.model = model;
         this.storage = storage;
         householdBookParser = new HouseholdBookParser(model);
+        // The model is built from the data file, so there is nothing to save until a command changes it.
+        savedModificationCount = model.getHouseholdBook().getModificationCount();
+        asyncSaver = switch (saveMode) {
+        case ASYNC -> new AsyncHouseholdBookSaver(storage, 0);
+        case INTERVAL -> new AsyncHouseholdBookSaver(storage, saveIntervalMillis);
+        default -> null;
+        };
     }
 
     @Override
@@ -51,17 +80,69 @@ public class LogicManager implements Logic {
         Command command = householdBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        // A failed background save is reported on the next command, which also queues a retry.
+        Optional<IOException> backgroundFailure = asyncSaver == null ? Optional.empty() : asyncSaver.pollFailure();
+        if (backgroundFailure.isPresent()) {
+            savedModificationCount = -1;
+        }
+
         try {
-            storage.saveHouseholdBook(model.getHouseholdBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            saveIfModified();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
 
+        if (backgroundFailure.isPresent()) {
+            throw toCommandException(backgroundFailure.get());
+        }
         return commandResult;
     }
 
+    /**
+     * Saves the household book, or submits it to the background saver, if it has changed since the last save.
+     */
+    private void saveIfModified() throws IOException {
+        HouseholdBook householdBook = model.getHouseholdBook();
+        long modificationCount = householdBook.getModificationCount();
+        if (modificationCount == savedModificationCount) {
+            skippedSaveCount++;
+            logger.fine("Household book unchanged, skipped save #" + skippedSaveCount);
+            return;
+        }
+        if (asyncSaver != null) {
+            asyncSaver.submit(householdBook);
+        } else {
+            storage.saveHouseholdBook(householdBook);
+        }
+        savedModificationCount = modificationCount;
+    }
+
+    /**
+     * Returns the number of commands after which saving was skipped because the household book was unchanged.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    @Override
+    public void markHouseholdBookSaved() {
+        savedModificationCount = model.getHouseholdBook().getModificationCount();
+    }
+
+    @Override
+    public void flushPendingSaves() throws IOException {
+        if (asyncSaver != null) {
+            asyncSaver.close();
+        }
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
     @Override
     public HouseholdBook getHouseholdBook() {
         return model.getHouseholdBook();
@@ -97,6 +178,16 @@ public class LogicManager implements Logic {
         model.updateFilteredSessionList(predicate);
     }
 
+    @Override
+    public void updateFilteredSessionListToHousehold(HouseholdId householdId) {
+        model.updateFilteredSessionListToHousehold(householdId);
+    }
+
+    @Override
+    public void clearFilteredSessionList() {
+        model.clearFilteredSessionList();
+    }
+
     @Override
     public void updateFilteredHouseholdList(Predicate<Household> predicate) {
         model.updateFilteredHouseholdList(predicate);
@@ -113,7 +113,7 @@ public class EditHouseholdCommand extends Command {
                 householdToEdit.getId(), updatedTags);
 
         // Copy the existing sessions from the original household.
-        editedHousehold.getSessions().addAll(householdToEdit.getSessions());
+        editedHousehold.addSessions(householdToEdit.getSessions());
 
         return editedHousehold;
     }
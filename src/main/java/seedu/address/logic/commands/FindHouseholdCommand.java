@@ -29,6 +29,10 @@ public class FindHouseholdCommand extends Command {
     public static final String MESSAGE_SUCCESS = "Found %1$d household(s) matching: %2$s";
     public static final String MESSAGE_NO_MATCHING_HOUSEHOLDS = "No households found matching: %1$s";
 
+    /** A phrase inside double quotes, or a single word. */
+    private static final Pattern KEYWORD_PATTERN = Pattern.compile("\"([^\"]+)\"|(\\S+)");
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("\\d+"); // Regex to match digits only
+
     // JUnit
     public final HouseholdContainsKeywordsPredicate predicate;
     private final String keywords;
@@ -60,7 +64,7 @@ public class FindHouseholdCommand extends Command {
 
     private List<String> extractKeywords(String input) {
         List<String> keywords = new ArrayList<>();
-        Matcher matcher = Pattern.compile("\"([^\"]+)\"|(\\S+)").matcher(input);
+        Matcher matcher = KEYWORD_PATTERN.matcher(input);
 
         while (matcher.find()) {
             if (matcher.group(1) != null) {
@@ -75,9 +79,7 @@ public class FindHouseholdCommand extends Command {
     }
 
     private boolean isNumber(String keyword) {
-        Pattern pattern = Pattern.compile("\\d+"); // Regex to match digits only
-        Matcher matcher = pattern.matcher(keyword);
-        return matcher.matches();
+        return NUMBER_PATTERN.matcher(keyword).matches();
     }
     /**
      * Executes the command to find households that match the specified search criteria.
@@ -2,13 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
-
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.household.Household;
 import seedu.address.model.household.HouseholdId;
-import seedu.address.model.session.Session;
 
 /**
  * Views all sessions for the household identified by the given household id.
@@ -49,16 +45,11 @@ public class ViewHouseholdSessionsCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Household targetHousehold = model.getHouseholdBook().getHouseholdList().stream()
-                .filter(h -> h.getId().equals(targetHouseholdId))
-                .findFirst()
-                .orElse(null);
-        if (targetHousehold == null) {
+        if (!model.getHouseholdBook().hasHouseholdId(targetHouseholdId)) {
             throw new CommandException("Household not found: " + targetHouseholdId.toString());
         }
 
-        Predicate<Session> predicate = session -> session.getHouseholdId().equals(targetHouseholdId);
-        model.updateFilteredSessionList(predicate);
+        model.updateFilteredSessionListToHousehold(targetHouseholdId);
 
         return new CommandResult(String.format(MESSAGE_VIEW_SUCCESS, targetHouseholdId.toString()));
     }
@@ -3,15 +3,31 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentVector;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdContainsKeywordsPredicate;
 import seedu.address.model.household.HouseholdId;
 import seedu.address.model.session.Session;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the household-book level.
@@ -19,6 +35,14 @@ import seedu.address.model.session.Session;
  * This class serves as the main data model for storing household and session information.
  * It maintains collections of households and their associated sessions, providing methods
  * to add, update, and retrieve this data.
+ *
+ * <p>A household book has a single writer: every change is made by its change executor, which for the model shown
+ * in the UI runs changes on the JavaFX application thread, so list listeners are notified there whichever thread
+ * asked for the change. Methods other than {@link #snapshot()} and {@link #getModificationCount()} read the lists
+ * as the change executor last left them, so they should be called where it runs changes. Other threads, such as
+ * savers, exporters and reports, read the household book only through {@link #snapshot()}, which every change
+ * excludes with a {@link StampedLock}. List listeners are notified while that lock is held, so they must not change
+ * the household book or take a snapshot of it.</p>
  */
 public class HouseholdBook implements ReadOnlyHouseholdBook {
     /** The list of households in this book. */
@@ -32,30 +56,282 @@ public class HouseholdBook implements ReadOnlyHouseholdBook {
     private final ObservableList<Session> sessions = FXCollections.observableArrayList();
 
     /**
-     * Creates an empty HouseholdBook.
+     * Index of the households above keyed by household ID, kept in step with {@code households}
+     * so that ID lookups do not have to scan the list.
      */
-    public HouseholdBook() {}
+    private final Map<HouseholdId, Household> householdsById = new HashMap<>();
 
     /**
-     * Creates a HouseholdBook using the Households and Sessions in the {@code toBeCopied}.
+     * Index of the sessions held by households keyed by the epoch-minute of their time slot.
+     * A slot normally holds one session, but data loaded from storage is not guaranteed to be conflict-free.
+     */
+    private final NavigableMap<Long, List<Session>> sessionsBySlot = new TreeMap<>();
+
+    /** Households keyed by case-folded name, for duplicate checks. */
+    private final Map<String, List<HouseholdId>> householdIdsByName = new HashMap<>();
+
+    /** Households keyed by case-folded address, for duplicate checks. */
+    private final Map<String, List<HouseholdId>> householdIdsByAddress = new HashMap<>();
+
+    /** Households keyed by contact number, for duplicate checks. */
+    private final Map<String, List<HouseholdId>> householdIdsByContact = new HashMap<>();
+
+    /** Households keyed by each of their tags, in the order they were indexed. */
+    private final Map<Tag, Map<HouseholdId, Household>> householdsByTag = new HashMap<>();
+
+    /** Index of the text of every household searched by {@code find}. */
+    private final HouseholdSearchIndex searchIndex = new HouseholdSearchIndex();
+
+    /** Index of every session in {@code sessions} keyed by session ID, together with its owning household. */
+    private final Map<UUID, SessionEntry> sessionsById = new HashMap<>();
+
+    /** The households in {@code households}, kept as a persistent list that snapshots share. */
+    private PersistentVector<Household> householdVector = PersistentVector.empty();
+
+    /** The sessions in {@code sessions}, kept as a persistent list that snapshots share. */
+    private PersistentVector<Session> sessionVector = PersistentVector.empty();
+
+    /** Identifies the change log of this household book to its snapshots. */
+    private final Object changeLogId = new Object();
+
+    /** The latest change made to this household book; earlier changes are reached only from snapshots. */
+    private HouseholdBookChange lastChange = HouseholdBookChange.startLog();
+
+    /** Number of changes made through the mutators of this household book. */
+    private volatile long modificationCount;
+
+    /** Held for writing by every mutator, so that {@link #snapshot()} never sees a half-made change. */
+    private final StampedLock lock = new StampedLock();
+
+    /** Makes every change to this household book, and so notifies the list listeners, in the order they were asked. */
+    private final Executor changeExecutor;
+
+    /**
+     * Creates an empty HouseholdBook that makes changes on the thread that asks for them.
+     */
+    public HouseholdBook() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Creates an empty HouseholdBook whose changes are made by {@code changeExecutor}.
+     * @param changeExecutor the executor that makes changes and notifies list listeners, one at a time and in order
+     */
+    public HouseholdBook(Executor changeExecutor) {
+        this.changeExecutor = requireNonNull(changeExecutor);
+    }
+
+    /**
+     * Creates a HouseholdBook using the Households and Sessions in the {@code toBeCopied}
+     * that makes changes on the thread that asks for them.
      * @param toBeCopied the household book to copy from
      */
     public HouseholdBook(ReadOnlyHouseholdBook toBeCopied) {
+        this(toBeCopied, Runnable::run);
+    }
+
+    /**
+     * Creates a HouseholdBook using the Households and Sessions in the {@code toBeCopied}
+     * whose changes are made by {@code changeExecutor}.
+     * @param toBeCopied the household book to copy from
+     * @param changeExecutor the executor that makes changes and notifies list listeners, one at a time and in order
+     */
+    public HouseholdBook(ReadOnlyHouseholdBook toBeCopied, Executor changeExecutor) {
+        this(changeExecutor);
         requireNonNull(toBeCopied);
         households.addAll(toBeCopied.getHouseholdList());
         sessions.addAll(toBeCopied.getSessionList());
+        rebuildIndexes();
     }
     /**
      * Resets the existing data of this {@code HouseholdBook} with data from {@code newData}.
-     * This clears all households and sessions and replaces them with those from newData.
+     * This replaces all households and sessions with those from newData, notifying each list's listeners once.
      * @param newData the new household book data
      */
-    public void resetData(HouseholdBook newData) {
+    public void resetData(ReadOnlyHouseholdBook newData) {
         requireNonNull(newData);
-        households.clear();
-        sessions.clear();
-        households.addAll(newData.getHouseholdList());
-        sessions.addAll(newData.getSessionList());
+        write(() -> {
+            households.setAll(newData.getHouseholdList());
+            sessions.setAll(newData.getSessionList());
+            rebuildIndexes();
+            logChange(null, null, false);
+            modificationCount++;
+        });
+    }
+
+    /**
+     * Returns the households and sessions of this household book now, unaffected by later changes.
+     * The snapshot shares the persistent lists kept alongside the observable ones, so it takes constant time,
+     * and lists the changes made between it and earlier snapshots through {@link #getChangesSince}.
+     * Unlike the other methods, this may be called on any thread while the household book is being changed:
+     * the lists are read without blocking the writer, and read again under a read lock if a change overlapped.
+     */
+    @Override
+    public ReadOnlyHouseholdBook snapshot() {
+        long stamp = lock.tryOptimisticRead();
+        PersistentVector<Household> householdsNow = householdVector;
+        PersistentVector<Session> sessionsNow = sessionVector;
+        HouseholdBookChange lastChangeNow = lastChange;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                householdsNow = householdVector;
+                sessionsNow = sessionVector;
+                lastChangeNow = lastChange;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return new HouseholdBookSnapshot(householdsNow, sessionsNow, changeLogId, lastChangeNow);
+    }
+
+    /**
+     * Returns the number of changes made to this household book since it was created.
+     * The count increases with every change, so an unchanged count means unchanged data.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Has the change executor make {@code change} while holding the write lock.
+     */
+    private void write(Runnable change) {
+        changeExecutor.execute(() -> {
+            long stamp = lock.writeLock();
+            try {
+                change.run();
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        });
+    }
+
+    /**
+     * Records a change to {@code household} or {@code session}, or to all of the data if both are null,
+     * in the change log. Must be called with the write lock held.
+     */
+    private void logChange(Household household, Session session, boolean isRemoval) {
+        lastChange = lastChange.append(household, session, isRemoval);
+    }
+
+    /**
+     * Rebuilds the household and session indexes and persistent lists from the current household and session lists.
+     */
+    private void rebuildIndexes() {
+        householdVector = PersistentVector.copyOf(households);
+        sessionVector = PersistentVector.copyOf(sessions);
+        householdsById.clear();
+        householdIdsByName.clear();
+        householdIdsByAddress.clear();
+        householdIdsByContact.clear();
+        householdsByTag.clear();
+        searchIndex.clear();
+        sessionsBySlot.clear();
+        sessionsById.clear();
+        for (Household household : households) {
+            indexHousehold(household);
+            for (Session session : household.getSessions()) {
+                indexSessionSlot(session);
+                sessionsById.put(session.getIdKey(), new SessionEntry(session, household.getId()));
+            }
+        }
+        for (Session session : sessions) {
+            sessionsById.putIfAbsent(session.getIdKey(), new SessionEntry(session, null));
+        }
+    }
+
+    /**
+     * Adds {@code household} to the household ID, uniqueness, tag and search indexes.
+     */
+    private void indexHousehold(Household household) {
+        HouseholdId id = household.getId();
+        householdsById.put(id, household);
+        householdIdsByName.computeIfAbsent(nameKey(household), key -> new ArrayList<>(1)).add(id);
+        householdIdsByAddress.computeIfAbsent(addressKey(household), key -> new ArrayList<>(1)).add(id);
+        householdIdsByContact.computeIfAbsent(contactKey(household), key -> new ArrayList<>(1)).add(id);
+        for (Tag tag : household.getTags()) {
+            householdsByTag.computeIfAbsent(tag, key -> new LinkedHashMap<>()).put(id, household);
+        }
+        searchIndex.add(household);
+    }
+
+    /**
+     * Removes {@code household} from the household ID, uniqueness, tag and search indexes.
+     */
+    private void unindexHousehold(Household household) {
+        HouseholdId id = household.getId();
+        householdsById.remove(id);
+        removeFromUniquenessIndex(householdIdsByName, nameKey(household), id);
+        removeFromUniquenessIndex(householdIdsByAddress, addressKey(household), id);
+        removeFromUniquenessIndex(householdIdsByContact, contactKey(household), id);
+        for (Tag tag : household.getTags()) {
+            Map<HouseholdId, Household> tagged = householdsByTag.get(tag);
+            if (tagged != null && tagged.remove(id, household) && tagged.isEmpty()) {
+                householdsByTag.remove(tag);
+            }
+        }
+        searchIndex.remove(household);
+    }
+
+    private static void removeFromUniquenessIndex(Map<String, List<HouseholdId>> index, String key, HouseholdId id) {
+        List<HouseholdId> ids = index.get(key);
+        if (ids == null) {
+            return;
+        }
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Returns true if {@code index} holds a household other than {@code id} under {@code key}.
+     */
+    private static boolean hasOtherHousehold(Map<String, List<HouseholdId>> index, String key, HouseholdId id) {
+        List<HouseholdId> ids = index.get(key);
+        return ids != null && ids.stream().anyMatch(existingId -> !existingId.equals(id));
+    }
+
+    private static String nameKey(Household household) {
+        return StringUtil.foldCase(household.getName().toString());
+    }
+
+    private static String addressKey(Household household) {
+        return StringUtil.foldCase(household.getAddress().toString());
+    }
+
+    private static String contactKey(Household household) {
+        return household.getContact().toString();
+    }
+
+    /**
+     * Returns the time-slot key of {@code session} in {@code sessionsBySlot}.
+     */
+    private static long slotOf(Session session) {
+        return session.getEpochMinute();
+    }
+
+    /**
+     * Adds {@code session} to the time-slot index.
+     */
+    private void indexSessionSlot(Session session) {
+        sessionsBySlot.computeIfAbsent(slotOf(session), slot -> new ArrayList<>(1)).add(session);
+    }
+
+    /**
+     * Removes {@code session} from the time-slot index, if present.
+     */
+    private void unindexSessionSlot(Session session) {
+        long slot = slotOf(session);
+        List<Session> slotSessions = sessionsBySlot.get(slot);
+        if (slotSessions == null) {
+            return;
+        }
+        slotSessions.remove(session);
+        if (slotSessions.isEmpty()) {
+            sessionsBySlot.remove(slot);
+        }
     }
 
     /**
@@ -66,9 +342,10 @@ public class HouseholdBook implements ReadOnlyHouseholdBook {
      */
     public boolean hasHousehold(Household household) {
         requireNonNull(household);
-        return households.stream()
-                .filter(existingHousehold -> !existingHousehold.getId().equals(household.getId()))
-                .anyMatch(existingHousehold -> existingHousehold.equals(household));
+        HouseholdId id = household.getId();
+        return hasOtherHousehold(householdIdsByName, nameKey(household), id)
+                || hasOtherHousehold(householdIdsByAddress, addressKey(household), id)
+                || hasOtherHousehold(householdIdsByContact, contactKey(household), id);
     }
 
     /**
@@ -78,7 +355,13 @@ public class HouseholdBook implements ReadOnlyHouseholdBook {
      */
     public void addHousehold(Household household) {
         requireNonNull(household);
-        households.add(household);
+        write(() -> {
+            households.add(household);
+            householdVector = householdVector.append(household);
+            indexHousehold(household);
+            logChange(household, null, false);
+            modificationCount++;
+        });
     }
 
     /**
@@ -88,12 +371,39 @@ public class HouseholdBook implements ReadOnlyHouseholdBook {
      */
     public void removeHousehold(Household household) {
         requireNonNull(household);
+        write(() -> {
+            // Remove associated sessions from the indexes and the global session list.
+            // Sessions are equal exactly when their IDs are, so the set matches them by ID.
+            Set<Session> removedSessions = new HashSet<>();
+            for (Session session : household.getSessions()) {
+                removedSessions.add(session);
+                sessionsById.remove(session.getIdKey());
+                unindexSessionSlot(session);
+                logChange(null, session, true);
+            }
+            removeFromSessionLists(removedSessions);
 
-        // Remove associated sessions from the global session list
-        sessions.removeIf(session -> household.getSessions().contains(session));
+            // Remove the household itself
+            int index = households.indexOf(household);
+            if (index != -1) {
+                households.remove(index);
+                householdVector = householdVector.without(index);
+            }
+            unindexHousehold(household);
+            logChange(household, null, true);
+            modificationCount++;
+        });
+    }
 
-        // Remove the household itself
-        households.remove(household);
+    /**
+     * Returns a predicate that matches the same households as {@code predicate}, but is evaluated from the
+     * search index for the households in this book now, rather than by searching each household's fields.
+     * @param predicate the keywords to search for
+     * @return a predicate equivalent to {@code predicate}
+     */
+    public Predicate<Household> findHouseholds(HouseholdContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return searchIndex.find(predicate);
     }
 
     /**
@@ -112,8 +422,7 @@ public class HouseholdBook implements ReadOnlyHouseholdBook {
      */
     public boolean hasHouseholdId(HouseholdId id) {
         requireNonNull(id);
-        return households.stream()
-                .anyMatch(household -> household.getId().equals(id));
+        return householdsById.containsKey(id);
     }
 
     /**
@@ -125,11 +434,18 @@ public class HouseholdBook implements ReadOnlyHouseholdBook {
     public void addSessionToHousehold(HouseholdId householdId, Session session) {
         requireNonNull(householdId);
         requireNonNull(session);
-        households.stream()
-                .filter(h -> h.getId().equals(householdId))
-                .findFirst()
-                .ifPresent(h -> h.addSession(session));
-        sessions.add(session);
+        write(() -> {
+            Household household = householdsById.get(householdId);
+            if (household != null) {
+                household.addSession(session);
+                indexSessionSlot(session);
+            }
+            sessions.add(session);
+            sessionVector = sessionVector.append(session);
+            sessionsById.put(session.getIdKey(), new SessionEntry(session, household == null ? null : householdId));
+            logChange(null, session, false);
+            modificationCount++;
+        });
     }
 
     /**
@@ -141,12 +457,13 @@ public class HouseholdBook implements ReadOnlyHouseholdBook {
      */
     public Optional<Session> getConflictingSession(Session session, Session... exclude) {
         requireNonNull(session);
-        return households.stream()
-                .flatMap(h -> h.getSessions().stream())
-                .filter(existingSession -> !List.of(exclude).contains(existingSession))
-                .filter(existingSession ->
-                        existingSession.getDate().equals(session.getDate())
-                        && existingSession.getTime().equals(session.getTime()))
+        List<Session> slotSessions = sessionsBySlot.get(slotOf(session));
+        if (slotSessions == null) {
+            return Optional.empty();
+        }
+        List<Session> excluded = List.of(exclude);
+        return slotSessions.stream()
+                .filter(existingSession -> !excluded.contains(existingSession))
                 .findFirst();
     }
 
@@ -156,20 +473,85 @@ public class HouseholdBook implements ReadOnlyHouseholdBook {
      *
      * <p>This method performs the following steps:</p>
      * <ul>
-     *   <li>Finds the household that contains the session and removes it from that household.</li>
-     *   <li>Removes the session from the global session list, if applicable.</li>
+     *   <li>Looks up the session and its owning household in the session ID index.</li>
+     *   <li>Removes the session from that household and from the global session list.</li>
      * </ul>
      *
      * @param sessionId The ID of the session to be removed.
      */
     public void removeSessionById(String sessionId) {
-        households.stream()
-                .filter(h -> h.getSessions().stream().anyMatch(s -> s.getSessionId().equals(sessionId)))
-                .findFirst()
-                .ifPresent(h -> {
-                    h.getSessions().removeIf(s -> s.getSessionId().equals(sessionId));
-                });
-        sessions.removeIf(s -> s.getSessionId().equals(sessionId));
+        requireNonNull(sessionId);
+        removeSessionsById(List.of(sessionId));
+    }
+
+    /**
+     * Removes all sessions identified by the given session IDs from their households and the global session list.
+     * IDs that do not belong to any session are ignored.
+     * Each affected list is traversed at most once, however many sessions are removed.
+     *
+     * @param sessionIds The IDs of the sessions to be removed.
+     */
+    public void removeSessionsById(Collection<String> sessionIds) {
+        requireNonNull(sessionIds);
+        write(() -> {
+            Set<Session> removedSessions = new HashSet<>();
+            Set<HouseholdId> ownerIds = new HashSet<>();
+            for (String sessionId : sessionIds) {
+                SessionEntry entry = sessionsById.remove(Session.toIdKey(sessionId));
+                if (entry == null) {
+                    continue;
+                }
+                removedSessions.add(entry.session);
+                logChange(null, entry.session, true);
+                if (entry.ownerId != null) {
+                    ownerIds.add(entry.ownerId);
+                    unindexSessionSlot(entry.session);
+                }
+            }
+            if (removedSessions.isEmpty()) {
+                return;
+            }
+
+            // Sessions are equal exactly when their IDs are, so the set matches them by ID.
+            for (HouseholdId ownerId : ownerIds) {
+                Household owner = householdsById.get(ownerId);
+                if (owner != null) {
+                    owner.removeSessionsIf(removedSessions::contains);
+                }
+            }
+            removeFromSessionLists(removedSessions);
+            modificationCount++;
+        });
+    }
+
+    /**
+     * Removes {@code removedSessions} from the global session list and its persistent copy.
+     * A single session is removed at its index, so the persistent list only copies the path to it; several are
+     * filtered out together, which copies only the paths to them.
+     */
+    private void removeFromSessionLists(Set<Session> removedSessions) {
+        if (removedSessions.size() == 1) {
+            int index = sessions.indexOf(removedSessions.iterator().next());
+            if (index != -1) {
+                sessions.remove(index);
+                sessionVector = sessionVector.without(index);
+            }
+        } else if (!removedSessions.isEmpty()) {
+            sessions.removeIf(removedSessions::contains);
+            sessionVector = sessionVector.filter(session -> !removedSessions.contains(session));
+        }
+    }
+
+    /**
+     * Returns the session with the given session ID if it exists.
+     *
+     * @param sessionId The ID of the session to look for.
+     * @return an Optional containing the session if found, or empty if not found
+     */
+    public Optional<Session> getSessionById(String sessionId) {
+        requireNonNull(sessionId);
+        SessionEntry entry = sessionsById.get(Session.toIdKey(sessionId));
+        return entry == null ? Optional.empty() : Optional.of(entry.session);
     }
 
     /**
@@ -179,9 +561,18 @@ public class HouseholdBook implements ReadOnlyHouseholdBook {
      */
     public Optional<Household> getHouseholdById(HouseholdId id) {
         requireNonNull(id);
-        return households.stream()
-                .filter(household -> household.getId().equals(id))
-                .findFirst();
+        return Optional.ofNullable(householdsById.get(id));
+    }
+
+    /**
+     * Returns the households tagged with {@code tag}, looked up in the tag index rather than by scanning households.
+     * @param tag the tag to look for
+     * @return an unmodifiable view of the tagged households, which is empty if no household has the tag
+     */
+    public Collection<Household> getHouseholdsWithTag(Tag tag) {
+        requireNonNull(tag);
+        Map<HouseholdId, Household> tagged = householdsByTag.get(tag);
+        return tagged == null ? List.of() : Collections.unmodifiableCollection(tagged.values());
     }
 
     /**
@@ -194,13 +585,22 @@ public class HouseholdBook implements ReadOnlyHouseholdBook {
     public void updateHousehold(Household target, Household editedHousehold) {
         requireNonNull(target);
         requireNonNull(editedHousehold);
+        write(() -> {
+            int index = households.indexOf(target);
+            if (index == -1) {
+                throw new IllegalArgumentException("Household does not exist in the household book");
+            }
 
-        int index = households.indexOf(target);
-        if (index == -1) {
-            throw new IllegalArgumentException("Household does not exist in the household book");
-        }
-
-        households.set(index, editedHousehold);
+            households.set(index, editedHousehold);
+            householdVector = householdVector.with(index, editedHousehold);
+            unindexHousehold(target);
+            indexHousehold(editedHousehold);
+            if (!target.getId().equals(editedHousehold.getId())) {
+                logChange(target, null, true);
+            }
+            logChange(editedHousehold, null, false);
+            modificationCount++;
+        });
     }
 
     /**
@@ -219,7 +619,7 @@ public class HouseholdBook implements ReadOnlyHouseholdBook {
      */
     public boolean hasSession(Session session) {
         requireNonNull(session);
-        return sessions.contains(session);
+        return sessionsById.containsKey(session.getIdKey());
     }
 
     /**
@@ -252,4 +652,18 @@ public class HouseholdBook implements ReadOnlyHouseholdBook {
     public int hashCode() {
         return households.hashCode();
     }
+
+    /**
+     * Represents a session in the session ID index together with the ID of the household that owns it.
+     * The owner is held by ID so that the entry stays valid when the household is replaced by an edited copy.
+     */
+    private static class SessionEntry {
+        private final Session session;
+        private final HouseholdId ownerId; // null if the session was added for an unknown household
+
+        SessionEntry(Session session, HouseholdId ownerId) {
+            this.session = session;
+            this.ownerId = ownerId;
+        }
+    }
 }
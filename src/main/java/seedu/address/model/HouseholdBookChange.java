@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import java.util.Optional;
+
+import seedu.address.model.household.Household;
+import seedu.address.model.session.Session;
+
+/**
+ * One change made to a {@link HouseholdBook}: a household or session put into it or removed from it, or all of its
+ * data replaced.
+ *
+ * <p>A household book links its changes from oldest to newest as they are made, and each of its snapshots points at
+ * the latest change it includes, so the changes between two snapshots are listed by following the links between
+ * them rather than by comparing their data. The household book holds only the latest change, so changes no snapshot
+ * needs any more are garbage collected.</p>
+ */
+public final class HouseholdBookChange {
+    private final Household household;
+    private final Session session;
+    private final boolean isRemoval;
+    /** Number of changes made before this one since the change log was started. */
+    private final long sequence;
+    /** The change made after this one, or null if there is none yet. Set once, while the write lock is held. */
+    private volatile HouseholdBookChange next;
+
+    private HouseholdBookChange(Household household, Session session, boolean isRemoval, long sequence) {
+        this.household = household;
+        this.session = session;
+        this.isRemoval = isRemoval;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Returns the start of a new change log, which stands for no change and is never listed itself.
+     */
+    static HouseholdBookChange startLog() {
+        return new HouseholdBookChange(null, null, false, 0);
+    }
+
+    /**
+     * Links a change after this one, which must be the latest in its log, and returns it.
+     * {@code household} or {@code session} is the household or session put or removed, and a change with neither
+     * replaces all of the data.
+     */
+    HouseholdBookChange append(Household household, Session session, boolean isRemoval) {
+        HouseholdBookChange change = new HouseholdBookChange(household, session, isRemoval, sequence + 1);
+        next = change;
+        return change;
+    }
+
+    HouseholdBookChange getNext() {
+        return next;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the household put into or removed from the household book, if this change is to a household.
+     */
+    public Optional<Household> getHousehold() {
+        return Optional.ofNullable(household);
+    }
+
+    /**
+     * Returns the session put into or removed from the household book, if this change is to a session.
+     */
+    public Optional<Session> getSession() {
+        return Optional.ofNullable(session);
+    }
+
+    /**
+     * Returns true if the household or session was removed rather than put.
+     */
+    public boolean isRemoval() {
+        return isRemoval;
+    }
+
+    /**
+     * Returns true if this change replaced all of the data of the household book.
+     */
+    public boolean isReset() {
+        return household == null && session == null;
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentVector;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.session.Session;
+
+/**
+ * The household and session lists of a household book at one moment, detached from later changes.
+ * The lists are persistent, so a snapshot of a {@link HouseholdBook} shares them rather than copying them.
+ * The households of the household book keep changing sessions, so the households of a snapshot are copies whose
+ * sessions are fixed to those in the snapshot's session list, made when the households are first asked for.
+ */
+class HouseholdBookSnapshot implements ReadOnlyHouseholdBook {
+    /** The households as they were in the household book, whose own session lists may have changed since. */
+    private final PersistentVector<Household> householdsAsRead;
+    /** The households with their sessions fixed, or null until they are first asked for. */
+    private ObservableList<Household> households;
+    private final ObservableList<Session> sessions;
+    /** Identifies the change log of the household book this is a snapshot of, or null if it has none. */
+    private final Object changeLogId;
+    /** The latest change included in this snapshot, or null if the changes are not known. */
+    private final HouseholdBookChange lastChange;
+
+    /**
+     * Creates a snapshot of {@code households} and {@code sessions}, which are copied unless they are already
+     * persistent lists.
+     */
+    HouseholdBookSnapshot(List<Household> households, List<Session> sessions) {
+        this(households, sessions, null, null);
+    }
+
+    /**
+     * Creates a snapshot of {@code households} and {@code sessions} that includes the changes up to
+     * {@code lastChange} in the change log identified by {@code changeLogId}.
+     */
+    HouseholdBookSnapshot(List<Household> households, List<Session> sessions, Object changeLogId,
+            HouseholdBookChange lastChange) {
+        this.householdsAsRead = PersistentVector.copyOf(households);
+        this.sessions = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(PersistentVector.copyOf(sessions)));
+        this.changeLogId = changeLogId;
+        this.lastChange = lastChange;
+    }
+
+    /**
+     * Returns the households in this snapshot, each with the sessions in {@link #getSessionList()} that belong to it.
+     * The households are copied the first time this is called, which takes time in proportion to the number of
+     * households and sessions; they are never changed afterwards, so they can be read on any thread.
+     */
+    @Override
+    public synchronized ObservableList<Household> getHouseholdList() {
+        if (households == null) {
+            households = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(withFixedSessions(householdsAsRead, sessions)));
+        }
+        return households;
+    }
+
+    @Override
+    public ObservableList<Session> getSessionList() {
+        return sessions;
+    }
+
+    @Override
+    public boolean hasHousehold(Household household) {
+        return getHouseholdList().contains(household);
+    }
+
+    @Override
+    public List<Session> getSessions() {
+        return sessions;
+    }
+
+    @Override
+    public ReadOnlyHouseholdBook snapshot() {
+        return this;
+    }
+
+    /**
+     * Returns the changes made after {@code earlier} up to this snapshot, in the order they were made, if
+     * {@code earlier} is an earlier snapshot of the same household book and no change in between replaced all of
+     * its data. Takes time in proportion to the number of changes.
+     */
+    @Override
+    public Optional<List<HouseholdBookChange>> getChangesSince(ReadOnlyHouseholdBook earlier) {
+        if (!(earlier instanceof HouseholdBookSnapshot earlierSnapshot) || changeLogId == null
+                || changeLogId != earlierSnapshot.changeLogId
+                || earlierSnapshot.lastChange.getSequence() > lastChange.getSequence()) {
+            return Optional.empty();
+        }
+        List<HouseholdBookChange> changes = new ArrayList<>();
+        for (HouseholdBookChange change = earlierSnapshot.lastChange; change != lastChange; ) {
+            change = change.getNext();
+            if (change.isReset()) {
+                return Optional.empty();
+            }
+            changes.add(change);
+        }
+        return Optional.of(changes);
+    }
+
+    /**
+     * Returns copies of {@code households} whose sessions are fixed to those in {@code sessions} that belong to them,
+     * newest first.
+     */
+    private static List<Household> withFixedSessions(List<Household> households, List<Session> sessions) {
+        Map<HouseholdId, List<Session>> sessionsByHousehold = new HashMap<>();
+        for (Session session : sessions) {
+            sessionsByHousehold.computeIfAbsent(session.getHouseholdId(), id -> new ArrayList<>()).add(session);
+        }
+        for (List<Session> householdSessions : sessionsByHousehold.values()) {
+            householdSessions.sort(Session.NEWEST_FIRST);
+        }
+        List<Household> fixedHouseholds = new ArrayList<>(households.size());
+        for (Household household : households) {
+            fixedHouseholds.add(household.withFixedSessions(
+                    sessionsByHousehold.getOrDefault(household.getId(), List.of())));
+        }
+        return fixedHouseholds;
+    }
+}
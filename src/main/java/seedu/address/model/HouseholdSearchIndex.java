@@ -0,0 +1,201 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdContainsKeywordsPredicate;
+import seedu.address.model.household.HouseholdId;
+
+/**
+ * Index of the fields searched by {@link HouseholdContainsKeywordsPredicate}, so that a search does not have to
+ * test every household.
+ *
+ * <p>Each household's case-folded name, address and tags (searched by text searches), and its ID and contact
+ * (searched by number searches), are kept together with the trigrams (substrings of three characters) that occur
+ * in them. A keyword of three or more characters can only occur in a field that contains all of its trigrams,
+ * so only the households listed under its rarest trigram are checked, with the keywords' {@link KeywordMatcher}.
+ * A search with a shorter keyword checks the kept fields of every household.</p>
+ */
+class HouseholdSearchIndex {
+    static final int GRAM_LENGTH = 3;
+
+    /** The index entry of every household in the index, keyed by household ID. */
+    private final Map<HouseholdId, Entry> entries = new HashMap<>();
+
+    /**
+     * The entries of the households whose text fields contain each trigram. Removed entries are only marked as
+     * removed and are dropped from these lists, and those below, once they make up half of them.
+     */
+    private final Map<String, List<Entry>> entriesByTextGram = new HashMap<>();
+
+    /** The entries of the households whose ID or contact contain each trigram. */
+    private final Map<String, List<Entry>> entriesByNumberGram = new HashMap<>();
+
+    private int removedEntryCount;
+
+    /** Number of households added so far, used to tell households added after a search from those before it. */
+    private long addCount;
+
+    /**
+     * Adds {@code household} to the index. No household with the same ID may be in the index.
+     */
+    void add(Household household) {
+        Entry entry = new Entry(household, addCount++);
+        entries.put(household.getId(), entry);
+        addPostings(entry, entry.textFields, entriesByTextGram);
+        addPostings(entry, entry.numberFields, entriesByNumberGram);
+    }
+
+    /**
+     * Removes {@code household} from the index, if it is in the index.
+     */
+    void remove(Household household) {
+        Entry entry = entries.get(household.getId());
+        if (entry == null || entry.household != household) {
+            return;
+        }
+        entries.remove(household.getId());
+        entry.isRemoved = true;
+        removedEntryCount++;
+        if (removedEntryCount > entries.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Removes all households from the index.
+     */
+    void clear() {
+        entries.clear();
+        entriesByTextGram.clear();
+        entriesByNumberGram.clear();
+        removedEntryCount = 0;
+    }
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}.
+     * Households in the index now are matched against the index once, here; the predicate only looks up the result.
+     * Households added to the index later, e.g. after an edit, are tested with {@code predicate} itself.
+     */
+    Predicate<Household> find(HouseholdContainsKeywordsPredicate predicate) {
+        boolean isNumberSearch = predicate.isNumberSearch();
+        if (isNumberSearch && predicate.getKeywords().stream().anyMatch(keyword -> keyword.length() < GRAM_LENGTH)) {
+            // Testing a short number against every ID and contact is as fast as looking up the kept fields.
+            return predicate;
+        }
+        Map<String, List<Entry>> entriesByGram = isNumberSearch ? entriesByNumberGram : entriesByTextGram;
+        KeywordMatcher matcher = predicate.getMatcher();
+
+        Set<Entry> matches = new HashSet<>();
+        for (Entry entry : candidates(predicate, entriesByGram)) {
+            String[] fields = isNumberSearch ? entry.numberFields : entry.textFields;
+            if (!entry.isRemoved && !matches.contains(entry) && matchesAny(matcher, fields)) {
+                matches.add(entry);
+            }
+        }
+
+        long searchedAddCount = addCount;
+        return household -> {
+            Entry entry = entries.get(household.getId());
+            if (entry != null && entry.household == household && entry.addNumber < searchedAddCount) {
+                return matches.contains(entry);
+            }
+            return predicate.test(household);
+        };
+    }
+
+    /**
+     * Returns the entries that may contain any keyword of {@code predicate} according to {@code entriesByGram},
+     * including some removed entries and some entries more than once.
+     */
+    private Iterable<Entry> candidates(HouseholdContainsKeywordsPredicate predicate,
+                                       Map<String, List<Entry>> entriesByGram) {
+        List<Entry> candidates = new ArrayList<>();
+        for (String keyword : predicate.getKeywords()) {
+            if (keyword.length() < GRAM_LENGTH) {
+                return entries.values();
+            }
+            // Number searches are case-sensitive, but their keywords are digits only.
+            String searchedKeyword = predicate.isNumberSearch() ? keyword : StringUtil.foldCase(keyword);
+            List<Entry> rarest = null;
+            for (int i = 0; i + GRAM_LENGTH <= searchedKeyword.length(); i++) {
+                List<Entry> gramEntries = entriesByGram.get(searchedKeyword.substring(i, i + GRAM_LENGTH));
+                if (gramEntries == null) {
+                    rarest = List.of();
+                    break;
+                }
+                if (rarest == null || gramEntries.size() < rarest.size()) {
+                    rarest = gramEntries;
+                }
+            }
+            candidates.addAll(rarest);
+        }
+        return candidates;
+    }
+
+    private static boolean matchesAny(KeywordMatcher matcher, String[] fields) {
+        for (String field : fields) {
+            if (matcher.matchesAny(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addPostings(Entry entry, String[] fields, Map<String, List<Entry>> entriesByGram) {
+        Set<String> grams = new HashSet<>();
+        for (String field : fields) {
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                grams.add(field.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        for (String gram : grams) {
+            entriesByGram.computeIfAbsent(gram, key -> new ArrayList<>(1)).add(entry);
+        }
+    }
+
+    /**
+     * Drops removed entries from the trigram lists.
+     */
+    private void compact() {
+        for (Map<String, List<Entry>> entriesByGram : List.of(entriesByTextGram, entriesByNumberGram)) {
+            entriesByGram.values().forEach(gramEntries -> gramEntries.removeIf(entry -> entry.isRemoved));
+            entriesByGram.values().removeIf(List::isEmpty);
+        }
+        removedEntryCount = 0;
+    }
+
+    /**
+     * A household in the index with its searched fields.
+     */
+    private static class Entry {
+        private final Household household;
+        private final long addNumber;
+        private final String[] textFields;
+        private final String[] numberFields;
+        private boolean isRemoved;
+
+        Entry(Household household, long addNumber) {
+            this.household = household;
+            this.addNumber = addNumber;
+            // The same fields, folded to the case HouseholdContainsKeywordsPredicate compares them in.
+            this.textFields = new String[] {
+                StringUtil.foldCase(household.getName().toString()),
+                StringUtil.foldCase(household.getAddress().toString()),
+                StringUtil.foldCase(household.getTags().toString())
+            };
+            this.numberFields = new String[] {
+                household.getId().toString(),
+                household.getContact().toString()
+            };
+        }
+    }
+}
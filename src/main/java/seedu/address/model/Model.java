@@ -6,6 +6,7 @@ import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
 import seedu.address.model.session.Session;
 
 /**
@@ -75,7 +76,7 @@ public interface Model {
     ObservableList<Household> getFilteredHouseholdList();
 
     /**
-     * Returns an unmodifiable view of the filtered session list.
+     * Returns an unmodifiable view of the filtered session list, newest first.
      * This list reflects the current filtering applied to sessions.
      *
      * @return An observable list of sessions that pass the current filter.
@@ -85,6 +86,8 @@ public interface Model {
     /**
      * Updates the filter of the filtered household list to filter by the given {@code predicate}.
      * This changes which households are displayed in the UI.
+     * A {@link seedu.address.model.household.HouseholdContainsKeywordsPredicate} is answered from the household
+     * book's search index instead of being tested against every household, whatever type it is passed as.
      *
      * @param predicate The predicate to use for filtering households.
      * @throws NullPointerException if {@code predicate} is null.
@@ -99,4 +102,19 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredSessionList(Predicate<Session> predicate);
+
+    /**
+     * Shows only the sessions of the household with {@code householdId} in the filtered session list,
+     * or no sessions if there is no such household.
+     * This costs time proportional to the number of sessions of that household, not of all sessions.
+     *
+     * @param householdId The ID of the household whose sessions are displayed.
+     * @throws NullPointerException if {@code householdId} is null.
+     */
+    void updateFilteredSessionListToHousehold(HouseholdId householdId);
+
+    /**
+     * Shows no sessions in the filtered session list.
+     */
+    void clearFilteredSessionList();
 }
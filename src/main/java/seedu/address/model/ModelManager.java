@@ -4,14 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdContainsKeywordsPredicate;
+import seedu.address.model.household.HouseholdId;
 import seedu.address.model.session.Session;
 
 /**
@@ -37,9 +45,21 @@ public class ModelManager implements Model {
     /** A filtered view of households for UI display */
     private final FilteredList<Household> filteredHouseholds;
 
-    /** A filtered view of sessions for UI display */
+    /** All sessions in the household book, newest first, kept sorted as sessions are added and removed */
+    private final SortedList<Session> allSessions;
+
+    /**
+     * Either {@code allSessions} or the sessions of a single household, see below.
+     * Both are newest first, households keeping their sessions in that order themselves.
+     */
+    private final SwitchableList<Session> displayedSessions;
+
+    /** A filtered view of {@code displayedSessions} for UI display */
     private final FilteredList<Session> filteredSessions;
 
+    /** The household whose sessions are displayed, or null if they are not the sessions of a single household */
+    private HouseholdId displayedHouseholdId;
+
     /**
      * Initializes a ModelManager with the given householdBook and userPrefs.
      * This constructor creates a new model with data from the provided sources.
@@ -48,14 +68,29 @@ public class ModelManager implements Model {
      * @param userPrefs the user preferences to initialize with
      */
     public ModelManager(ReadOnlyHouseholdBook householdBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(householdBook, userPrefs);
+        this(householdBook, userPrefs, Runnable::run);
+    }
+
+    /**
+     * Initializes a ModelManager with the given householdBook and userPrefs, whose household book is changed,
+     * and whose lists are therefore updated, by {@code changeExecutor}.
+     *
+     * @param householdBook the household book data to initialize with
+     * @param userPrefs the user preferences to initialize with
+     * @param changeExecutor the executor that changes the household book, normally on the JavaFX application thread
+     */
+    public ModelManager(ReadOnlyHouseholdBook householdBook, ReadOnlyUserPrefs userPrefs, Executor changeExecutor) {
+        requireAllNonNull(householdBook, userPrefs, changeExecutor);
 
         logger.fine("Initializing with household book: " + householdBook + " and user prefs " + userPrefs);
 
-        this.householdBook = new HouseholdBook(householdBook);
+        this.householdBook = new HouseholdBook(householdBook, changeExecutor);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredHouseholds = new FilteredList<>(this.householdBook.getHouseholdList());
-        filteredSessions = new FilteredList<>(this.householdBook.getSessionList());
+        allSessions = new SortedList<>(this.householdBook.getSessionList(), Session.NEWEST_FIRST);
+        displayedSessions = new SwitchableList<>(allSessions);
+        filteredSessions = new FilteredList<>(displayedSessions);
+        this.householdBook.getHouseholdList().addListener(this::followDisplayedHousehold);
     }
 
     /**
@@ -148,6 +183,7 @@ public class ModelManager implements Model {
     /**
      * Updates the filter of the filtered household list to filter by the given predicate.
      * This changes which households are visible in the UI.
+     * Keyword predicates are looked up in the household book's search index.
      *
      * @param predicate The predicate to filter households.
      * @throws NullPointerException if {@code predicate} is null.
@@ -155,7 +191,11 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredHouseholdList(Predicate<Household> predicate) {
         requireNonNull(predicate);
-        filteredHouseholds.setPredicate(predicate);
+        if (predicate instanceof HouseholdContainsKeywordsPredicate keywordsPredicate) {
+            filteredHouseholds.setPredicate(householdBook.findHouseholds(keywordsPredicate));
+        } else {
+            filteredHouseholds.setPredicate(predicate);
+        }
     }
 
     //=========== Filtered Session List Accessors =============================================================
@@ -181,7 +221,62 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredSessionList(Predicate<Session> predicate) {
         requireNonNull(predicate);
+        displayedHouseholdId = null;
+        // Filter the current, possibly short, list before switching to all sessions, which is then filtered once.
         filteredSessions.setPredicate(predicate);
+        displayedSessions.setSource(allSessions);
+    }
+
+    /**
+     * Shows only the sessions of the household with {@code householdId} in the filtered session list,
+     * or no sessions if there is no such household.
+     * Only that household's sessions are looked at, and the list keeps following them as they change.
+     *
+     * @param householdId The ID of the household whose sessions to show.
+     * @throws NullPointerException if {@code householdId} is null.
+     */
+    @Override
+    public void updateFilteredSessionListToHousehold(HouseholdId householdId) {
+        requireNonNull(householdId);
+        displayedHouseholdId = householdId;
+        ObservableList<Session> sessions = householdBook.getHouseholdById(householdId)
+                .map(Household::getSessions)
+                .orElse(FXCollections.emptyObservableList());
+        assert isNewestFirst(sessions) : "Households keep their sessions newest first";
+        displayedSessions.setSource(sessions);
+        filteredSessions.setPredicate(null);
+    }
+
+    /**
+     * Shows no sessions in the filtered session list, without looking at any session.
+     */
+    @Override
+    public void clearFilteredSessionList() {
+        displayedHouseholdId = null;
+        displayedSessions.setSource(FXCollections.emptyObservableList());
+        filteredSessions.setPredicate(null);
+    }
+
+    /**
+     * Keeps showing the sessions of the displayed household when it is replaced, e.g. by an edit, or removed.
+     * The household index of the household book may not be updated yet, so the change itself is searched.
+     */
+    private void followDisplayedHousehold(ListChangeListener.Change<? extends Household> change) {
+        if (displayedHouseholdId == null) {
+            return;
+        }
+        while (change.next()) {
+            for (Household removed : change.getRemoved()) {
+                if (removed.getId().equals(displayedHouseholdId)) {
+                    displayedSessions.setSource(FXCollections.emptyObservableList());
+                }
+            }
+            for (Household added : change.getAddedSubList()) {
+                if (added.getId().equals(displayedHouseholdId)) {
+                    displayedSessions.setSource(added.getSessions());
+                }
+            }
+        }
     }
 
     /**
@@ -208,4 +303,83 @@ public class ModelManager implements Model {
                 && filteredHouseholds.equals(other.filteredHouseholds)
                 && filteredSessions.equals(other.filteredSessions);
     }
+
+    private static boolean isNewestFirst(List<Session> sessions) {
+        for (int i = 1; i < sessions.size(); i++) {
+            if (Session.NEWEST_FIRST.compare(sessions.get(i - 1), sessions.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A read-only view of one backing list at a time. Switching to another backing list is reported to listeners
+     * as a single change that replaces all elements, and changes to the current backing list are passed on as is,
+     * so views built on top of this list only ever look at the elements of the current backing list.
+     */
+    private static class SwitchableList<E> extends ObservableListBase<E> {
+        private final ListChangeListener<E> forwarder = this::forward;
+        private ObservableList<? extends E> source;
+
+        SwitchableList(ObservableList<? extends E> source) {
+            this.source = source;
+            source.addListener(forwarder);
+        }
+
+        void setSource(ObservableList<? extends E> newSource) {
+            if (newSource == source) {
+                return;
+            }
+            ObservableList<? extends E> oldSource = source;
+            oldSource.removeListener(forwarder);
+            newSource.addListener(forwarder);
+            source = newSource;
+
+            beginChange();
+            if (!oldSource.isEmpty()) {
+                nextRemove(0, oldSource);
+            }
+            if (!newSource.isEmpty()) {
+                nextAdd(0, newSource.size());
+            }
+            endChange();
+        }
+
+        private void forward(ListChangeListener.Change<? extends E> change) {
+            beginChange();
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    int[] permutation = new int[change.getTo() - from];
+                    for (int i = 0; i < permutation.length; i++) {
+                        permutation[i] = change.getPermutation(from + i);
+                    }
+                    nextPermutation(from, change.getTo(), permutation);
+                } else if (change.wasUpdated()) {
+                    for (int i = from; i < change.getTo(); i++) {
+                        nextUpdate(i);
+                    }
+                } else {
+                    if (change.wasRemoved()) {
+                        nextRemove(from, change.getRemoved());
+                    }
+                    if (change.wasAdded()) {
+                        nextAdd(from, change.getTo());
+                    }
+                }
+            }
+            endChange();
+        }
+
+        @Override
+        public E get(int index) {
+            return source.get(index);
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.household.Household;
@@ -74,4 +75,28 @@ public interface ReadOnlyHouseholdBook {
      * @return An unmodifiable List containing all sessions.
      */
     List<Session> getSessions();
+
+    /**
+     * Returns a copy of the household and session lists of this household book that later changes do not affect.
+     * Unless an implementation says otherwise, this must be called on the thread that changes the household book.
+     *
+     * @return An unmodifiable household book holding the households and sessions in this one now.
+     */
+    default ReadOnlyHouseholdBook snapshot() {
+        return new HouseholdBookSnapshot(getHouseholdList(), getSessionList());
+    }
+
+    /**
+     * Returns the changes that turn {@code earlier} into this household book, in the order they were made.
+     *
+     * <p>This lets storage write only what changed since the data it last saved, without comparing every household
+     * and session. The changes are only known between snapshots of the same {@link HouseholdBook}; otherwise, and
+     * when all of the data was replaced in between, the result is empty and the data must be compared instead.</p>
+     *
+     * @param earlier A household book this one may have been changed from.
+     * @return The changes made since {@code earlier}, or an empty Optional if they are not known.
+     */
+    default Optional<List<HouseholdBookChange>> getChangesSince(ReadOnlyHouseholdBook earlier) {
+        return Optional.empty();
+    }
 }
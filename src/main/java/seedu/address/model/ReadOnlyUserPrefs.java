@@ -48,4 +48,14 @@ public interface ReadOnlyUserPrefs {
      */
     Path getHouseholdBookFilePath();
 
+    /**
+     * Returns the format of the household book data file.
+     *
+     * <p>The application reads and writes the file at {@link #getHouseholdBookFilePath()}
+     * in this format.</p>
+     *
+     * @return The format of the household book data file.
+     */
+    UserPrefs.HouseholdBookFormat getHouseholdBookFormat();
+
 }
@@ -23,12 +23,25 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * The file formats the household book can be stored in.
+     */
+    public enum HouseholdBookFormat {
+        /** A human-readable json file. */
+        JSON,
+        /** A compact binary file that is faster to load and save. */
+        BINARY
+    }
+
     /** Settings for the GUI components like window size and position. */
     private GuiSettings guiSettings = new GuiSettings();
 
     /** File path where the household book data is stored. */
     private Path householdBookFilePath = Paths.get("data" , "householdbook.json");
 
+    /** Format of the household book data file. */
+    private HouseholdBookFormat householdBookFormat = HouseholdBookFormat.JSON;
+
     /**
      * Creates a {@code UserPrefs} with default values.
      *
@@ -36,6 +49,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
      * <ul>
      *   <li>Default GUI settings (standard window size and centered position)</li>
      *   <li>Default data file path ("data/householdbook.json")</li>
+     *   <li>Json data file format</li>
      * </ul></p>
      */
     public UserPrefs() {}
@@ -68,6 +82,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setHouseholdBookFilePath(newUserPrefs.getHouseholdBookFilePath());
+        setHouseholdBookFormat(newUserPrefs.getHouseholdBookFormat());
     }
 
     /**
@@ -125,11 +140,35 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.householdBookFilePath = householdBookFilePath;
     }
 
+    /**
+     * Returns the format of the household book data file.
+     *
+     * @return The format of the household book data file.
+     */
+    @Override
+    public HouseholdBookFormat getHouseholdBookFormat() {
+        return householdBookFormat;
+    }
+
+    /**
+     * Sets the format of the household book data file.
+     *
+     * <p>The data file at {@link #getHouseholdBookFilePath()} is read and written in this format
+     * from the next application start.</p>
+     *
+     * @param householdBookFormat The new format of the household book data file.
+     * @throws NullPointerException if {@code householdBookFormat} is null.
+     */
+    public void setHouseholdBookFormat(HouseholdBookFormat householdBookFormat) {
+        requireNonNull(householdBookFormat);
+        this.householdBookFormat = householdBookFormat;
+    }
+
     /**
      * Returns true if both UserPrefs objects have the same values.
      *
-     * <p>UserPrefs are considered equal if they have the same GUI settings
-     * and household book file path.</p>
+     * <p>UserPrefs are considered equal if they have the same GUI settings,
+     * household book file path and household book format.</p>
      *
      * @param other The object to compare with.
      * @return true if both objects represent the same preferences, false otherwise.
@@ -144,27 +183,28 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         }
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && householdBookFilePath.equals(otherUserPrefs.householdBookFilePath);
+                && householdBookFilePath.equals(otherUserPrefs.householdBookFilePath)
+                && householdBookFormat == otherUserPrefs.householdBookFormat;
     }
 
     /**
      * Returns the hash code value for this UserPrefs.
      *
-     * <p>The hash code is computed based on the GUI settings and
-     * household book file path.</p>
+     * <p>The hash code is computed based on the GUI settings,
+     * household book file path and household book format.</p>
      *
      * @return The hash code value.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, householdBookFilePath);
+        return Objects.hash(guiSettings, householdBookFilePath, householdBookFormat);
     }
 
     /**
      * Returns a string representation of this UserPrefs.
      *
-     * <p>The string contains the GUI settings and household book file path
-     * in a human-readable format.</p>
+     * <p>The string contains the GUI settings, household book file path and
+     * household book format in a human-readable format.</p>
      *
      * @return A string representation of the preferences.
      */
@@ -173,6 +213,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + householdBookFilePath);
+        sb.append("\nLocal data file format : " + householdBookFormat);
         return sb.toString();
     }
 }
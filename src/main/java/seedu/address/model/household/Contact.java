@@ -3,6 +3,8 @@ package seedu.address.model.household;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Household's contact number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidContact(String)}
@@ -12,6 +14,7 @@ public class Contact {
     public static final String MESSAGE_CONSTRAINTS =
             "Contact numbers should be exactly 8 digits long, start with 6, 8, or 9, and contain only numbers.";
     public static final String VALIDATION_REGEX = "^[689]\\d{7}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -34,7 +37,7 @@ public class Contact {
      * @return true if the string matches the validation regex; false otherwise.
      */
     public static boolean isValidContact(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
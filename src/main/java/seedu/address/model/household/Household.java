@@ -1,34 +1,36 @@
 package seedu.address.model.household;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.session.Session;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Household in the address book.
  * Guarantees: details are present and not null, field values are validated.
  */
 public class Household {
-    private static final Comparator<Session> SESSION_COMPARATOR = (s1, s2) -> {
-        int dateCompare = s2.getDate().compareTo(s1.getDate()); // Newest date first
-        if (dateCompare != 0) {
-            return dateCompare;
-        }
-        return s2.getTime().compareTo(s1.getTime()); // Newest time first
-    };
+    private static final Comparator<Session> SESSION_COMPARATOR = Session.NEWEST_FIRST;
     private final Name name;
     private final Address address;
     private final Contact contact;
     private final HouseholdId id;
-    private final ObservableList<Session> sessions = FXCollections.observableArrayList();
-    private final Set<Tag> tags;
+    /** Sessions of this household, always kept in {@code SESSION_COMPARATOR} order. */
+    private final ObservableList<Session> sessions;
+    private final ObservableList<Session> unmodifiableSessions;
+    private final TagSet tags;
 
     /**
      * Creates a {@code Household} object with an auto-generated ID.
@@ -40,7 +42,7 @@ public class Household {
      * @throws NullPointerException if any of the parameters are null.
      */
     public Household(Name name, Address address, Contact contact) {
-        this(name, address, contact, HouseholdId.generateNewId(), new HashSet<>());
+        this(name, address, contact, HouseholdId.generateNewId(), TagSet.EMPTY);
     }
 
     /**
@@ -64,7 +66,35 @@ public class Household {
         this.address = address;
         this.contact = contact;
         this.id = id;
-        this.tags = new HashSet<>(tags); // defensive copy
+        this.tags = TagSet.of(tags);
+        this.sessions = FXCollections.observableArrayList();
+        this.unmodifiableSessions = FXCollections.unmodifiableObservableList(sessions);
+    }
+
+    /**
+     * Creates a copy of {@code household} whose session list is {@code fixedSessions} and cannot be changed.
+     */
+    private Household(Household household, List<Session> fixedSessions) {
+        this.name = household.name;
+        this.address = household.address;
+        this.contact = household.contact;
+        this.id = household.id;
+        this.tags = household.tags;
+        this.sessions = FXCollections.unmodifiableObservableList(FXCollections.observableList(fixedSessions));
+        this.unmodifiableSessions = sessions;
+    }
+
+    /**
+     * Returns a copy of this household whose sessions are {@code fixedSessions}, which must be newest first.
+     * Adding or removing sessions of the copy throws {@code UnsupportedOperationException}, so, as long as
+     * {@code fixedSessions} is not changed either, the copy can be read on any thread.
+     *
+     * @param fixedSessions The sessions of the copy, which the copy shares rather than copies.
+     * @return A copy of this household with the given sessions.
+     */
+    public Household withFixedSessions(List<Session> fixedSessions) {
+        requireAllNonNull(fixedSessions);
+        return new Household(this, fixedSessions);
     }
 
     public Name getName() {
@@ -83,14 +113,19 @@ public class Household {
         return id;
     }
 
+    /**
+     * Returns an unmodifiable view of this household's sessions, newest first.
+     * The backing list is kept sorted as sessions are added, so this neither sorts nor copies.
+     */
     public ObservableList<Session> getSessions() {
-        // Sort in place so that the underlying list is also sorted.
-        FXCollections.sort(sessions, SESSION_COMPARATOR);
-        return sessions;
+        return unmodifiableSessions;
     }
 
+    /**
+     * Returns this household's tags as an immutable set, which households with the same tags share.
+     */
     public Set<Tag> getTags() {
-        return new HashSet<>(tags); // defensive copy
+        return tags;
     }
 
     /**
@@ -101,7 +136,62 @@ public class Household {
      */
     public void addSession(Session session) {
         requireNonNull(session);
-        sessions.add(session);
+        sessions.add(insertionPoint(session), session);
+    }
+
+    /**
+     * Adds all the given sessions to this household with a single change to the session list.
+     *
+     * @param toAdd The sessions to add.
+     * @throws NullPointerException if {@code toAdd} or any session in it is null.
+     */
+    public void addSessions(Collection<Session> toAdd) {
+        requireAllNonNull(toAdd);
+        if (toAdd.isEmpty()) {
+            return;
+        }
+        List<Session> merged = new ArrayList<>(sessions.size() + toAdd.size());
+        merged.addAll(sessions);
+        merged.addAll(toAdd);
+        merged.sort(SESSION_COMPARATOR);
+        sessions.setAll(merged);
+    }
+
+    /**
+     * Removes the given session from this household, if present.
+     *
+     * @param session The session to remove.
+     * @return true if the session was removed.
+     */
+    public boolean removeSession(Session session) {
+        requireNonNull(session);
+        return sessions.remove(session);
+    }
+
+    /**
+     * Removes all sessions of this household that satisfy the given predicate.
+     *
+     * @param predicate The predicate selecting the sessions to remove.
+     * @return true if any session was removed.
+     */
+    public boolean removeSessionsIf(Predicate<? super Session> predicate) {
+        requireNonNull(predicate);
+        return sessions.removeIf(predicate);
+    }
+
+    /**
+     * Returns the index at which {@code session} should be inserted to keep the session list sorted.
+     * Sessions in the same time slot keep their insertion order, as they did under the previous stable sort.
+     */
+    private int insertionPoint(Session session) {
+        int index = Collections.binarySearch(sessions, session, SESSION_COMPARATOR);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index < sessions.size() && SESSION_COMPARATOR.compare(sessions.get(index), session) == 0) {
+            index++;
+        }
+        return index;
     }
 
     /**
@@ -2,14 +2,17 @@ package seedu.address.model.household;
 
 import java.util.List;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
+
+import seedu.address.commons.util.KeywordMatcher;
 
 /**
  * Tests that a {@code Household}'s name, address, tags, household ID or phone number contains any of the keywords.
+ * The keywords are compiled once into a {@link KeywordMatcher}, so each field is read once whatever their number.
  */
 public class HouseholdContainsKeywordsPredicate implements Predicate<Household> {
     private final List<String> keywords;
     private final boolean isNumberSearch; // Flag to indicate if we are doing a number-based search
+    private final KeywordMatcher matcher;
 
     /**
      * Constructs a {@code HouseholdContainsKeywordsPredicate} with the given keywords and search mode.
@@ -20,7 +23,22 @@ public class HouseholdContainsKeywordsPredicate implements Predicate<Household>
     public HouseholdContainsKeywordsPredicate(List<String> keywords, boolean isNumberSearch) {
         this.keywords = keywords;
         this.isNumberSearch = isNumberSearch;
+        // Number searches are case-sensitive; text searches are not.
+        this.matcher = new KeywordMatcher(keywords, !isNumberSearch);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public boolean isNumberSearch() {
+        return isNumberSearch;
+    }
+
+    public KeywordMatcher getMatcher() {
+        return matcher;
     }
+
     /**
      * Tests a {@code Household} to determine if it matches the search criteria.
      * The matching criteria vary based on whether the search is by number or by keywords.
@@ -35,11 +53,9 @@ public class HouseholdContainsKeywordsPredicate implements Predicate<Household>
             return testByNumber(household);
         } else {
             // Search by name, address, or tags
-            return keywords.stream()
-                    .anyMatch(keyword -> Stream.of(household.getName().toString(),
-                                    household.getAddress().toString(),
-                                    household.getTags().toString())
-                            .anyMatch(field -> field.toLowerCase().contains(keyword.toLowerCase())));
+            return matcher.matchesAny(household.getName().toString())
+                    || matcher.matchesAny(household.getAddress().toString())
+                    || matcher.matchesAny(household.getTags().toString());
         }
     }
     /**
@@ -54,8 +70,7 @@ public class HouseholdContainsKeywordsPredicate implements Predicate<Household>
         String householdId = household.getId().toString(); // Assuming Household has a getId method
         String phoneNumber = household.getContact().toString(); // Assuming Household has getPhoneNumber method
 
-        return keywords.stream()
-                .anyMatch(keyword -> householdId.contains(keyword) || phoneNumber.contains(keyword));
+        return matcher.matchesAny(householdId) || matcher.matchesAny(phoneNumber);
     }
     /**
      * Checks equality between this predicate and another object.
@@ -2,26 +2,52 @@ package seedu.address.model.household;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Represents a Household's ID in the household book.
  * Guarantees: immutable; ID is valid as declared in {@link #isValidId(String)}
+ *
+ * <p>An ID in the form {@code "H"} followed by a zero-padded number is kept as that number, and its string form is
+ * only created for display and storage. {@link #of(String)}, {@link #fromString(String)} and
+ * {@link #generateNewId()} return one shared instance per number, so comparing such IDs is usually a reference
+ * check.</p>
  */
 public class HouseholdId {
     public static final String MESSAGE_CONSTRAINTS =
             "Household ID should start with 'H' followed by 6 digits";
-    private static final String VALIDATION_REGEX = "H\\d{6}";
-    private static long idCounter = 0;
+    private static final char PREFIX = 'H';
+    private static final int DIGITS = 6;
+    private static final int NOT_NUMBERED = -1;
+    /** The shared instance of every numbered ID created so far. IDs are never removed, as there are few. */
+    private static final Map<Integer, HouseholdId> POOL = new ConcurrentHashMap<>();
+    /** The largest number of any ID generated or loaded so far. */
+    private static final AtomicLong idCounter = new AtomicLong();
 
-    public final String value;
+    /** The number of the ID, or {@code NOT_NUMBERED} if the ID is not in the numbered form. */
+    private final int number;
+    /** The ID if it is not in the numbered form, null otherwise. */
+    private final String otherValue;
 
     /**
      * Constructs a new {@code HouseholdId} with the specified value.
-     * Primarily used for testing purposes to create a HouseholdId with a specific value.
+     * Primarily used for testing purposes to create a HouseholdId with a specific value;
+     * {@link #of(String)} returns the shared instance instead.
      *
      * @param value The ID value to be assigned.
      */
     public HouseholdId(String value) {
-        this.value = value;
+        requireNonNull(value);
+        this.number = parseNumber(value);
+        this.otherValue = number == NOT_NUMBERED ? value : null;
+    }
+
+    private HouseholdId(int number) {
+        this.number = number;
+        this.otherValue = null;
     }
 
     /**
@@ -31,7 +57,24 @@ public class HouseholdId {
      * @return A new {@code HouseholdId} with a unique, auto-generated value.
      */
     public static HouseholdId generateNewId() {
-        return new HouseholdId(String.format("H%06d", ++idCounter));
+        return of(Math.toIntExact(idCounter.incrementAndGet()));
+    }
+
+    /**
+     * Returns the {@code HouseholdId} with the given value, without updating the ID counter.
+     * IDs in the numbered form are shared; others are created anew.
+     *
+     * @throws NullPointerException if the given ID is null.
+     */
+    public static HouseholdId of(String id) {
+        requireNonNull(id);
+        int number = parseNumber(id);
+        return number == NOT_NUMBERED ? new HouseholdId(id) : of(number);
+    }
+
+    private static HouseholdId of(int number) {
+        HouseholdId householdId = POOL.get(number);
+        return householdId != null ? householdId : POOL.computeIfAbsent(number, HouseholdId::new);
     }
 
     /**
@@ -39,47 +82,82 @@ public class HouseholdId {
      * The ID counter is updated to ensure subsequent generated IDs are unique.
      *
      * @param id The ID string to create a {@code HouseholdId} from.
-     * @return A new {@code HouseholdId} with the specified ID value.
+     * @return The {@code HouseholdId} with the specified ID value.
      * @throws NullPointerException if the given ID is null.
      */
     public static HouseholdId fromString(String id) {
-        requireNonNull(id);
-        HouseholdId householdId = new HouseholdId(id);
-
-        try {
-            long storedId = Long.parseLong(id.substring(1));
-            idCounter = Math.max(idCounter, storedId);
-        } catch (NumberFormatException e) {
-            // Handle invalid ID format if necessary
+        HouseholdId householdId = of(id);
+        if (householdId.number != NOT_NUMBERED) {
+            updateIdCounter(householdId.number);
         }
         return householdId;
     }
 
+    /**
+     * Ensures IDs generated from now on are greater than {@code storedId}.
+     * Stored IDs may be read on several threads at once.
+     */
+    private static void updateIdCounter(long storedId) {
+        idCounter.accumulateAndGet(storedId, Math::max);
+    }
+
+    /**
+     * Returns the number of {@code id} if it is {@code 'H'} followed by the number zero-padded to six digits,
+     * so that {@link #toString()} gives back {@code id}, or {@code NOT_NUMBERED} otherwise.
+     */
+    private static int parseNumber(String id) {
+        int length = id.length();
+        if (length < DIGITS + 1 || id.charAt(0) != PREFIX || (length > DIGITS + 1 && id.charAt(1) == '0')) {
+            return NOT_NUMBERED;
+        }
+        long number = 0;
+        for (int i = 1; i < length; i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_NUMBERED;
+            }
+            number = number * 10 + (c - '0');
+            if (number > Integer.MAX_VALUE) {
+                return NOT_NUMBERED;
+            }
+        }
+        return (int) number;
+    }
+
     /**
      * Validates whether a given string is a valid household ID.
-     * A valid ID must match the defined validation pattern.
+     * A valid ID is {@code 'H'} followed by six digits.
      *
      * @param test The string to validate.
      * @return true if the string is a valid household ID, false otherwise.
      */
     public static boolean isValidId(String test) {
-        return test != null && test.matches(VALIDATION_REGEX);
+        return test != null && test.length() == DIGITS + 1 && parseNumber(test) != NOT_NUMBERED;
     }
 
     @Override
     public String toString() {
-        return value;
+        if (otherValue != null) {
+            return otherValue;
+        }
+        String digits = Integer.toString(number);
+        return PREFIX + "0".repeat(Math.max(0, DIGITS - digits.length())) + digits;
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this
-                || (other instanceof HouseholdId
-                && value.equals(((HouseholdId) other).value));
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HouseholdId)) {
+            return false;
+        }
+        HouseholdId otherId = (HouseholdId) other;
+        return number == otherId.number && Objects.equals(otherValue, otherId.otherValue);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return otherValue != null ? otherValue.hashCode() : Integer.hashCode(number);
     }
 }
@@ -1,24 +1,47 @@
 package seedu.address.model.session;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.Objects;
 import java.util.UUID;
 
+import seedu.address.commons.util.SessionUtils;
 import seedu.address.model.household.HouseholdId;
 
 /**
  * Represents a session associated with a specific household.
  * Each session is uniquely identified by a {@code sessionId}.
  * A session can optionally have a {@code SessionNote}.
+ *
+ * <p>A session keeps its time slot as an epoch-minute and its ID as the two halves of a UUID, and creates its
+ * {@code SessionDate}, {@code SessionTime} and session ID string when asked for them.</p>
  */
 public class Session {
     public static final String MESSAGE_CONSTRAINTS_SESSION_ID =
             "Session ID should be a valid UUID format";
+    public static final String MESSAGE_CONSTRAINTS_EPOCH_MINUTE =
+            "Session time should be within the range of dates and times";
 
-    private final String sessionId;
+    /** Orders sessions by time slot, newest first. */
+    public static final Comparator<Session> NEWEST_FIRST = (s1, s2) -> Long.compare(s2.epochMinute, s1.epochMinute);
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+    private static final long MIN_EPOCH_MINUTE = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC) / 60;
+    private static final long MAX_EPOCH_MINUTE = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC) / 60;
+
+    private final long idMostSignificantBits;
+    private final long idLeastSignificantBits;
+    /** The session ID if it is not a UUID in its canonical form, null otherwise. */
+    private final String otherSessionId;
     private final HouseholdId householdId;
-    private final SessionDate date;
-    private final SessionTime time;
+    private final long epochMinute;
     private SessionNote note;
 
     /**
@@ -31,15 +54,7 @@ public class Session {
      * @throws NullPointerException If any argument is null.
      */
     public Session(String sessionId, HouseholdId householdId, SessionDate date, SessionTime time) {
-        requireNonNull(sessionId);
-        requireNonNull(householdId);
-        requireNonNull(date);
-        requireNonNull(time);
-        this.sessionId = sessionId;
-        this.householdId = householdId;
-        this.date = date;
-        this.time = time;
-        this.note = null;
+        this(ParsedSessionId.parse(sessionId), householdId, toEpochMinute(date, time), null);
     }
 
     /**
@@ -53,8 +68,7 @@ public class Session {
      * @throws NullPointerException If any required argument is null.
      */
     public Session(String sessionId, HouseholdId householdId, SessionDate date, SessionTime time, SessionNote note) {
-        this(sessionId, householdId, date, time);
-        this.note = note;
+        this(ParsedSessionId.parse(sessionId), householdId, toEpochMinute(date, time), note);
     }
 
     /**
@@ -66,7 +80,7 @@ public class Session {
      * @throws NullPointerException If any argument is null.
      */
     public Session(HouseholdId householdId, SessionDate date, SessionTime time) {
-        this(UUID.randomUUID().toString(), householdId, date, time);
+        this(UUID.randomUUID(), householdId, date, time);
     }
 
     /**
@@ -79,7 +93,7 @@ public class Session {
      * @throws NullPointerException If any required argument is null.
      */
     public Session(HouseholdId householdId, SessionDate date, SessionTime time, SessionNote note) {
-        this(UUID.randomUUID().toString(), householdId, date, time, note);
+        this(UUID.randomUUID(), householdId, date, time, note);
     }
 
     /**
@@ -92,7 +106,7 @@ public class Session {
      * @throws NullPointerException If any argument is null.
      */
     public Session(UUID uuid, HouseholdId householdId, SessionDate date, SessionTime time) {
-        this(uuid.toString(), householdId, date, time);
+        this(uuid, householdId, date, time, null);
     }
 
     /**
@@ -106,11 +120,100 @@ public class Session {
      * @throws NullPointerException If any required argument is null.
      */
     public Session(UUID uuid, HouseholdId householdId, SessionDate date, SessionTime time, SessionNote note) {
-        this(uuid.toString(), householdId, date, time, note);
+        this(uuid, householdId, toEpochMinute(date, time), note);
+    }
+
+    /**
+     * Creates a {@code Session} in the time slot given by its epoch-minute, as returned by {@link #getEpochMinute()}.
+     * Storage that keeps the time slot in this form uses it to create sessions without converting to a date and time.
+     *
+     * @param uuid The UUID used to create the session ID.
+     * @param householdId The household associated with this session.
+     * @param epochMinute The epoch-minute of the session's time slot.
+     * @param note An optional note for this session.
+     * @throws NullPointerException If any required argument is null.
+     * @throws IllegalArgumentException If {@code epochMinute} is not a valid epoch-minute.
+     */
+    public Session(UUID uuid, HouseholdId householdId, long epochMinute, SessionNote note) {
+        this(new ParsedSessionId(requireNonNull(uuid).getMostSignificantBits(), uuid.getLeastSignificantBits(), null),
+                householdId, epochMinute, note);
+    }
+
+    private Session(ParsedSessionId id, HouseholdId householdId, long epochMinute, SessionNote note) {
+        requireNonNull(householdId);
+        checkArgument(isValidEpochMinute(epochMinute), MESSAGE_CONSTRAINTS_EPOCH_MINUTE);
+        this.idMostSignificantBits = id.mostSignificantBits;
+        this.idLeastSignificantBits = id.leastSignificantBits;
+        this.otherSessionId = id.otherSessionId;
+        this.householdId = householdId;
+        this.epochMinute = epochMinute;
+        this.note = note;
+    }
+
+    private static long toEpochMinute(SessionDate date, SessionTime time) {
+        requireNonNull(date);
+        requireNonNull(time);
+        return SessionUtils.toEpochMinute(date, time);
+    }
+
+    /**
+     * Returns true if {@code epochMinute} is the epoch-minute of a date and time that can be represented.
+     */
+    public static boolean isValidEpochMinute(long epochMinute) {
+        return epochMinute >= MIN_EPOCH_MINUTE && epochMinute <= MAX_EPOCH_MINUTE;
+    }
+
+    private Session(Session source, SessionNote note) {
+        this.idMostSignificantBits = source.idMostSignificantBits;
+        this.idLeastSignificantBits = source.idLeastSignificantBits;
+        this.otherSessionId = source.otherSessionId;
+        this.householdId = source.householdId;
+        this.epochMinute = source.epochMinute;
+        this.note = note;
     }
 
     public String getSessionId() {
-        return sessionId; // Not exposed to users, only used internally
+        // Not exposed to users, only used internally
+        return otherSessionId != null ? otherSessionId : getIdKey().toString();
+    }
+
+    /**
+     * Returns the key identifying this session in maps of sessions, which is equal to
+     * {@code toIdKey(getSessionId())}.
+     */
+    public UUID getIdKey() {
+        return new UUID(idMostSignificantBits, idLeastSignificantBits);
+    }
+
+    /**
+     * Returns the most significant half of {@link #getIdKey()}, without creating the key.
+     */
+    public long getIdMostSignificantBits() {
+        return idMostSignificantBits;
+    }
+
+    /**
+     * Returns the least significant half of {@link #getIdKey()}, without creating the key.
+     */
+    public long getIdLeastSignificantBits() {
+        return idLeastSignificantBits;
+    }
+
+    /**
+     * Returns true if the session ID is a UUID in its canonical form, so that {@link #getIdKey()} converts back
+     * to it.
+     */
+    public boolean hasUuidSessionId() {
+        return otherSessionId == null;
+    }
+
+    /**
+     * Returns the key identifying the session with ID {@code sessionId} in maps of sessions.
+     * A session ID that is not a UUID in its canonical form is keyed by a name-based UUID of it.
+     */
+    public static UUID toIdKey(String sessionId) {
+        ParsedSessionId id = ParsedSessionId.parse(sessionId);
+        return new UUID(id.mostSignificantBits, id.leastSignificantBits);
     }
 
     public HouseholdId getHouseholdId() {
@@ -118,11 +221,18 @@ public class Session {
     }
 
     public SessionDate getDate() {
-        return date;
+        return new SessionDate(LocalDate.ofEpochDay(Math.floorDiv(epochMinute, MINUTES_PER_DAY)));
     }
 
     public SessionTime getTime() {
-        return time;
+        return new SessionTime(LocalTime.ofSecondOfDay(Math.floorMod(epochMinute, MINUTES_PER_DAY) * 60));
+    }
+
+    /**
+     * Returns the epoch-minute of this session's time slot, as computed by {@link SessionUtils#toEpochMinute}.
+     */
+    public long getEpochMinute() {
+        return epochMinute;
     }
 
     public SessionNote getNote() {
@@ -144,12 +254,7 @@ public class Session {
      * @return A new session instance with the specified note.
      */
     public Session withNote(String noteText) {
-        return new Session(
-                this.sessionId,
-                this.householdId,
-                this.date,
-                this.time,
-                new SessionNote(noteText));
+        return new Session(this, new SessionNote(noteText));
     }
 
     @Override
@@ -157,8 +262,8 @@ public class Session {
         // Hide sessionId from user output
         return String.format("Session for %s on %s at %s%s",
                 householdId.toString(),
-                date.toString(),
-                time.toString(),
+                getDate().toString(),
+                getTime().toString(),
                 hasNote() ? ": " + note.toString() : "");
     }
 
@@ -173,12 +278,79 @@ public class Session {
         }
 
         Session otherSession = (Session) other;
-        return sessionId.equals(otherSession.sessionId);
+        return idMostSignificantBits == otherSession.idMostSignificantBits
+                && idLeastSignificantBits == otherSession.idLeastSignificantBits
+                && Objects.equals(otherSessionId, otherSession.otherSessionId);
     }
 
     @Override
     public int hashCode() {
-        return sessionId.hashCode();
+        return Long.hashCode(idMostSignificantBits ^ idLeastSignificantBits);
     }
-}
 
+    /**
+     * A session ID split into the two halves of its key, read in one pass over the ID.
+     */
+    private static class ParsedSessionId {
+        private static final int UUID_LENGTH = 36;
+
+        private final long mostSignificantBits;
+        private final long leastSignificantBits;
+        /** The session ID if it is not a UUID in its canonical form, null otherwise. */
+        private final String otherSessionId;
+
+        ParsedSessionId(long mostSignificantBits, long leastSignificantBits, String otherSessionId) {
+            this.mostSignificantBits = mostSignificantBits;
+            this.leastSignificantBits = leastSignificantBits;
+            this.otherSessionId = otherSessionId;
+        }
+
+        /**
+         * Parses {@code sessionId}. A UUID in its canonical form, as written by {@link UUID#toString()}, is read
+         * straight into its halves; any other ID is keyed by a name-based UUID of it.
+         */
+        static ParsedSessionId parse(String sessionId) {
+            requireNonNull(sessionId);
+            if (!isCanonicalUuid(sessionId)) {
+                UUID nameKey = UUID.nameUUIDFromBytes(sessionId.getBytes(StandardCharsets.UTF_8));
+                return new ParsedSessionId(nameKey.getMostSignificantBits(), nameKey.getLeastSignificantBits(),
+                        sessionId);
+            }
+            long mostSignificantBits = parseHex(sessionId, 0, 8) << 32
+                    | parseHex(sessionId, 9, 13) << 16
+                    | parseHex(sessionId, 14, 18);
+            long leastSignificantBits = parseHex(sessionId, 19, 23) << 48
+                    | parseHex(sessionId, 24, UUID_LENGTH);
+            return new ParsedSessionId(mostSignificantBits, leastSignificantBits, null);
+        }
+
+        /**
+         * Returns true if {@code sessionId} is 32 lowercase hexadecimal digits in groups of 8, 4, 4, 4 and 12
+         * separated by hyphens, which is exactly the form {@link UUID#toString()} produces.
+         */
+        private static boolean isCanonicalUuid(String sessionId) {
+            if (sessionId.length() != UUID_LENGTH) {
+                return false;
+            }
+            for (int i = 0; i < UUID_LENGTH; i++) {
+                char c = sessionId.charAt(i);
+                boolean isValid = (i == 8 || i == 13 || i == 18 || i == 23)
+                        ? c == '-'
+                        : (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+                if (!isValid) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long parseHex(String digits, int start, int end) {
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                char c = digits.charAt(i);
+                value = (value << 4) | (c <= '9' ? c - '0' : c - 'a' + 10);
+            }
+            return value;
+        }
+    }
+}
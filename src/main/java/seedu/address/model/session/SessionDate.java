@@ -31,6 +31,17 @@ public class SessionDate implements Comparable<SessionDate> {
         value = LocalDate.parse(date, FORMATTER);
     }
 
+    /**
+     * Constructs a {@code SessionDate} holding {@code date}.
+     *
+     * @param date The date of the session.
+     * @throws NullPointerException If {@code date} is null.
+     */
+    public SessionDate(LocalDate date) {
+        requireNonNull(date);
+        value = date;
+    }
+
     /**
      * Validates if the given string represents a valid date.
      * The date string must adhere to the expected format defined by {@code FORMATTER}.
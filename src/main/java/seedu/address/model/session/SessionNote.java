@@ -3,6 +3,8 @@ package seedu.address.model.session;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Session's note in the household book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNote(String)}
@@ -12,6 +14,7 @@ public class SessionNote {
             "Notes can take any values, and it should not be blank";
 
     public static final String VALIDATION_REGEX = "\\S.*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -37,7 +40,7 @@ public class SessionNote {
      * @return {@code true} if {@code test} satisfies the validation criteria; {@code false} otherwise.
      */
     public static boolean isValidNote(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -31,6 +31,19 @@ public class SessionTime implements Comparable<SessionTime> {
         value = LocalTime.parse(time, FORMATTER);
     }
 
+    /**
+     * Constructs a {@code SessionTime} holding {@code time}, which must be a whole minute.
+     *
+     * @param time The time of the session.
+     * @throws NullPointerException If {@code time} is null.
+     * @throws IllegalArgumentException If {@code time} has seconds or fractions of a second.
+     */
+    public SessionTime(LocalTime time) {
+        requireNonNull(time);
+        checkArgument(time.getSecond() == 0 && time.getNano() == 0, MESSAGE_CONSTRAINTS);
+        value = time;
+    }
+
     /**
      * Validates if the given string represents a valid time.
      * The time string must adhere to the expected format defined by {@code FORMATTER}.
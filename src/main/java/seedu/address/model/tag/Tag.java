@@ -3,16 +3,29 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * <p>Every tag name is registered once and given an ordinal, which equal tags share. {@link #of(String)} returns
+ * the registered tag, so households with the same tag share one instance.</p>
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    /** The registered tag of every tag name created so far. Tags are never removed, as there are few. */
+    private static final Map<String, Tag> REGISTRY = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger();
 
     public final String tagName;
+    private final int ordinal;
 
     /**
      * Constructs a {@code Tag}.
@@ -20,16 +33,42 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this.tagName = tagName;
+        this.ordinal = of(tagName).ordinal;
+    }
+
+    private Tag(String tagName, int ordinal) {
+        this.tagName = tagName;
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * Returns the registered tag named {@code tagName}, registering it if it is new.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
+        Tag tag = REGISTRY.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+        return REGISTRY.computeIfAbsent(tagName, name -> new Tag(name, NEXT_ORDINAL.getAndIncrement()));
+    }
+
+    /**
+     * Returns the number this tag's name was registered under, which is the same for all equal tags.
+     */
+    public int getOrdinal() {
+        return ordinal;
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -44,12 +83,12 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.equals(otherTag.tagName);
+        return ordinal == otherTag.ordinal;
     }
 
     @Override
     public int hashCode() {
-        return tagName.hashCode();
+        return Integer.hashCode(ordinal);
     }
 
     /**
@@ -0,0 +1,80 @@
+package seedu.address.model.tag;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable set of tags, kept as an array of registered tags sorted by name.
+ * {@link #of(Collection)} returns one shared instance per distinct set, so households with the same tags share it.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    /** The shared instance of every distinct set created so far. */
+    private static final Map<TagSet, TagSet> POOL = new ConcurrentHashMap<>(Map.of(EMPTY, EMPTY));
+
+    private final Tag[] tags;
+    /** The text of {@link #toString()}, which searches read for every household. */
+    private final String text;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        this.text = super.toString();
+    }
+
+    /**
+     * Returns the shared set holding {@code tags}.
+     *
+     * @throws NullPointerException if {@code tags} or any tag in it is null.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        if (tags instanceof TagSet tagSet) {
+            return tagSet;
+        }
+        Tag[] registered = tags.stream()
+                .map(tag -> Tag.of(tag.tagName))
+                .distinct()
+                .sorted(Comparator.comparing(tag -> tag.tagName))
+                .toArray(Tag[]::new);
+        TagSet tagSet = new TagSet(registered);
+        TagSet shared = POOL.putIfAbsent(tagSet, tagSet);
+        return shared != null ? shared : tagSet;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag otherTag)) {
+            return false;
+        }
+        for (Tag tag : tags) {
+            if (tag.getOrdinal() == otherTag.getOrdinal()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        // The list view's iterator does not support remove.
+        return Arrays.asList(tags).iterator();
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
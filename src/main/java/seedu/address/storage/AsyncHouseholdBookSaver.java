@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyHouseholdBook;
+
+/**
+ * Saves the household book on a single background thread.
+ *
+ * <p>Submitted states are coalesced: while a save is pending, newer submissions replace the pending state, so only
+ * the latest state is ever written. Failures are recorded and can be collected with {@link #pollFailure()}.</p>
+ */
+public class AsyncHouseholdBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncHouseholdBookSaver.class);
+
+    private final HouseholdBookStorage storage;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<ReadOnlyHouseholdBook> pending = new AtomicReference<>();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    /**
+     * Creates a saver that writes to {@code storage}, waiting {@code delayMillis} after the first unsaved
+     * submission before writing. A delay of 0 writes as soon as the background thread is free.
+     */
+    public AsyncHouseholdBookSaver(HouseholdBookStorage storage, long delayMillis) {
+        requireNonNull(storage);
+        if (delayMillis < 0) {
+            throw new IllegalArgumentException("Save delay must not be negative: " + delayMillis);
+        }
+        this.storage = storage;
+        this.delayMillis = delayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "household-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules a save of the current state of {@code householdBook}.
+     * A {@link ReadOnlyHouseholdBook#snapshot() snapshot} of {@code householdBook} is taken on the calling thread,
+     * so it may be modified as soon as this method returns.
+     */
+    public void submit(ReadOnlyHouseholdBook householdBook) {
+        requireNonNull(householdBook);
+        if (pending.getAndSet(householdBook.snapshot()) == null) {
+            executor.schedule(this::saveLatest, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns and clears the failure of the most recent failed save, if any.
+     */
+    public Optional<IOException> pollFailure() {
+        return Optional.ofNullable(failure.getAndSet(null));
+    }
+
+    /**
+     * Writes any pending state immediately and waits for it to complete.
+     *
+     * @throws IOException if a save failed since the last call to {@link #pollFailure()}.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(this::saveLatest).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the household book to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        Optional<IOException> lastFailure = pollFailure();
+        if (lastFailure.isPresent()) {
+            throw lastFailure.get();
+        }
+    }
+
+    /**
+     * Flushes pending state and stops the background thread. No further submissions are accepted.
+     *
+     * @throws IOException if the final save failed.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void saveLatest() {
+        ReadOnlyHouseholdBook latest = pending.getAndSet(null);
+        if (latest == null) {
+            return;
+        }
+        try {
+            storage.saveHouseholdBook(latest);
+        } catch (IOException e) {
+            logger.warning("Failed to save household book in the background: " + StringUtil.getDetails(e));
+            failure.set(e);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyHouseholdBook;
+import seedu.address.model.household.Address;
+import seedu.address.model.household.Contact;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.household.Name;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionNote;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access HouseholdBook data stored in a compact binary file on the hard disk.
+ *
+ * <p>The file starts with a magic number and a format version, followed by sections. Each section is a type byte,
+ * the length of its payload, the payload and the CRC-32 of the payload, so damaged data is detected and sections
+ * unknown to this version are skipped. All numbers are big-endian, and strings are their length in UTF-8 bytes
+ * followed by those bytes. The sections are, in order:</p>
+ * <ul>
+ *   <li>strings: the distinct tag names and notes, referred to by their index in the table;</li>
+ *   <li>households: ID, name, address, contact and the string indexes of the tags of each household;</li>
+ *   <li>sessions: fixed-size records of the household ordinal, the start time in minutes since the epoch,
+ *       the session UUID as two longs and the string index of the note, or -1 if there is none;</li>
+ *   <li>end: an empty section marking a complete file.</li>
+ * </ul>
+ */
+public class BinaryHouseholdBookStorage implements HouseholdBookStorage {
+
+    /** The bytes {@code HHBK} at the start of every file. */
+    static final int MAGIC = 0x4848424B;
+    static final short FORMAT_VERSION = 1;
+
+    static final byte END_SECTION = 0;
+    static final byte STRING_SECTION = 1;
+    static final byte HOUSEHOLD_SECTION = 2;
+    static final byte SESSION_SECTION = 3;
+
+    /** The string index stored for a missing note. */
+    static final int NO_STRING = -1;
+
+    private static final int HEADER_LENGTH = Integer.BYTES + Short.BYTES;
+    private static final int SECTION_HEADER_LENGTH = Byte.BYTES + Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryHouseholdBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryHouseholdBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getHouseholdBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyHouseholdBook> readHouseholdBook() throws DataLoadingException {
+        return readHouseholdBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readHouseholdBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyHouseholdBook> readHouseholdBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return Optional.of(readHouseholdBook(channel));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads a household book from the start of the file open in {@code channel}.
+     *
+     * @throws IOException if the file is damaged or not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static ReadOnlyHouseholdBook readHouseholdBook(FileChannel channel) throws IOException, IllegalValueException {
+        ByteBuffer header = readFully(channel, HEADER_LENGTH);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a binary household book file");
+        }
+        short version = header.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary household book version: " + version);
+        }
+
+        HouseholdBookLoader loader = new HouseholdBookLoader();
+        StringTable strings = null;
+        List<HouseholdId> householdIds = null;
+        boolean hasSessions = false;
+        while (true) {
+            ByteBuffer sectionHeader = readFully(channel, SECTION_HEADER_LENGTH);
+            byte type = sectionHeader.get();
+            int length = sectionHeader.getInt();
+            if (length < 0) {
+                throw new IOException("Invalid section length: " + length);
+            }
+            ByteBuffer payload = readSection(channel, length);
+            try {
+                switch (type) {
+                case END_SECTION:
+                    if (!hasSessions) {
+                        throw new IOException("Binary household book is missing sections");
+                    }
+                    return loader.build();
+                case STRING_SECTION:
+                    strings = new StringTable(payload);
+                    break;
+                case HOUSEHOLD_SECTION:
+                    requireSection(strings);
+                    householdIds = readHouseholds(payload, strings, loader);
+                    break;
+                case SESSION_SECTION:
+                    requireSection(householdIds);
+                    readSessions(payload, strings, householdIds, loader);
+                    hasSessions = true;
+                    break;
+                default:
+                    // Sections added by later versions are skipped.
+                    continue;
+                }
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IOException("Malformed section of type " + type, e);
+            }
+            if (payload.hasRemaining()) {
+                throw new IOException("Unexpected data at the end of section of type " + type);
+            }
+        }
+    }
+
+    private static void requireSection(Object earlierSection) throws IOException {
+        if (earlierSection == null) {
+            throw new IOException("Binary household book sections are out of order");
+        }
+    }
+
+    private static List<HouseholdId> readHouseholds(ByteBuffer payload, StringTable strings,
+            HouseholdBookLoader loader) {
+        int count = payload.getInt();
+        List<HouseholdId> householdIds = new ArrayList<>();
+        Tag[] tags = new Tag[strings.size()];
+        for (int i = 0; i < count; i++) {
+            String id = getString(payload);
+            String name = getString(payload);
+            String address = getString(payload);
+            String contact = getString(payload);
+
+            int tagCount = payload.getInt();
+            Set<Tag> householdTags = new HashSet<>();
+            boolean hasInvalidTag = false;
+            for (int j = 0; j < tagCount; j++) {
+                int index = payload.getInt();
+                if (tags[index] == null && Tag.isValidTagName(strings.get(index))) {
+                    tags[index] = Tag.of(strings.get(index));
+                }
+                if (tags[index] == null) {
+                    hasInvalidTag = true;
+                } else {
+                    householdTags.add(tags[index]);
+                }
+            }
+
+            boolean areTagsValid = !hasInvalidTag;
+            loader.addHousehold(() -> {
+                checkValue(areTagsValid, Tag.MESSAGE_CONSTRAINTS);
+                checkValue(HouseholdId.isValidId(id), HouseholdId.MESSAGE_CONSTRAINTS);
+                checkValue(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+                checkValue(Address.isValidAddress(address), Address.MESSAGE_CONSTRAINTS);
+                checkValue(Contact.isValidContact(contact), Contact.MESSAGE_CONSTRAINTS);
+                return new Household(new Name(name), new Address(address), new Contact(contact),
+                        HouseholdId.fromString(id), householdTags);
+            });
+            householdIds.add(HouseholdId.of(id));
+        }
+        return householdIds;
+    }
+
+    private static void readSessions(ByteBuffer payload, StringTable strings, List<HouseholdId> householdIds,
+            HouseholdBookLoader loader) throws IOException {
+        int count = payload.getInt();
+        for (int i = 0; i < count; i++) {
+            int ordinal = payload.getInt();
+            long epochMinute = payload.getLong();
+            UUID sessionId = new UUID(payload.getLong(), payload.getLong());
+            int noteIndex = payload.getInt();
+
+            HouseholdId knownHouseholdId = ordinal >= 0 ? householdIds.get(ordinal) : null;
+            String otherHouseholdId = ordinal >= 0 ? null : strings.get(-1 - ordinal);
+            String note = noteIndex != NO_STRING ? strings.get(noteIndex) : null;
+            if (!Session.isValidEpochMinute(epochMinute)) {
+                throw new IOException("Invalid session time: " + epochMinute);
+            }
+
+            loader.addSession(() -> {
+                HouseholdId householdId = knownHouseholdId;
+                if (householdId == null) {
+                    checkValue(HouseholdId.isValidId(otherHouseholdId), HouseholdId.MESSAGE_CONSTRAINTS);
+                    householdId = HouseholdId.of(otherHouseholdId);
+                }
+                SessionNote modelNote = null;
+                if (note != null) {
+                    checkValue(SessionNote.isValidNote(note), SessionNote.MESSAGE_CONSTRAINTS);
+                    modelNote = new SessionNote(note);
+                }
+                return new Session(sessionId, householdId, epochMinute, modelNote);
+            });
+        }
+    }
+
+    private static void checkValue(boolean isValid, String message) throws IllegalValueException {
+        if (!isValid) {
+            throw new IllegalValueException(message);
+        }
+    }
+
+    private static String getString(ByteBuffer payload) {
+        String value = getString(payload, payload.position());
+        payload.position(payload.position() + Integer.BYTES + payload.getInt(payload.position()));
+        return value;
+    }
+
+    /**
+     * Returns the string stored at {@code offset} in {@code payload}, leaving the position of {@code payload}
+     * unchanged.
+     */
+    private static String getString(ByteBuffer payload, int offset) {
+        int length = payload.getInt(offset);
+        int start = offset + Integer.BYTES;
+        if (length < 0 || length > payload.limit() - start) {
+            throw new BufferUnderflowException();
+        }
+        return new String(payload.array(), payload.arrayOffset() + start, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the payload of a section of {@code length} bytes and its checksum, returning the verified payload.
+     */
+    private static ByteBuffer readSection(FileChannel channel, int length) throws IOException {
+        int sectionLength = length + Integer.BYTES;
+        if (length > Integer.MAX_VALUE - Integer.BYTES || sectionLength > channel.size() - channel.position()) {
+            throw new EOFException("Binary household book is truncated");
+        }
+        ByteBuffer section = readFully(channel, sectionLength);
+        CRC32 checksum = new CRC32();
+        checksum.update(section.array(), 0, length);
+        if ((int) checksum.getValue() != section.getInt(length)) {
+            throw new IOException("Checksum mismatch in binary household book");
+        }
+        return section.limit(length);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Binary household book is truncated");
+            }
+        }
+        return buffer.flip();
+    }
+
+    @Override
+    public void saveHouseholdBook(ReadOnlyHouseholdBook householdBook) throws IOException {
+        saveHouseholdBook(householdBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveHouseholdBook(ReadOnlyHouseholdBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveHouseholdBook(ReadOnlyHouseholdBook householdBook, Path filePath) throws IOException {
+        requireNonNull(householdBook);
+        requireNonNull(filePath);
+
+        BinaryHouseholdBookWriter.write(householdBook, filePath);
+    }
+
+    /**
+     * The string section of a file, decoding each string the first time it is looked up.
+     */
+    private static class StringTable {
+        private final ByteBuffer payload;
+        private final int[] offsets;
+        private final String[] values;
+
+        /**
+         * Indexes the strings in {@code payload}, leaving {@code payload} positioned after them.
+         */
+        StringTable(ByteBuffer payload) {
+            int count = payload.getInt();
+            if (count < 0 || count > payload.remaining() / Integer.BYTES) {
+                throw new BufferUnderflowException();
+            }
+            this.payload = payload;
+            offsets = new int[count];
+            values = new String[count];
+            for (int i = 0; i < count; i++) {
+                offsets[i] = payload.position();
+                int length = payload.getInt();
+                if (length < 0 || length > payload.remaining()) {
+                    throw new BufferUnderflowException();
+                }
+                payload.position(payload.position() + length);
+            }
+        }
+
+        String get(int index) {
+            if (values[index] == null) {
+                values[index] = getString(payload, offsets[index]);
+            }
+            return values[index];
+        }
+
+        int size() {
+            return values.length;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryHouseholdBookStorage.END_SECTION;
+import static seedu.address.storage.BinaryHouseholdBookStorage.FORMAT_VERSION;
+import static seedu.address.storage.BinaryHouseholdBookStorage.HOUSEHOLD_SECTION;
+import static seedu.address.storage.BinaryHouseholdBookStorage.MAGIC;
+import static seedu.address.storage.BinaryHouseholdBookStorage.NO_STRING;
+import static seedu.address.storage.BinaryHouseholdBookStorage.SESSION_SECTION;
+import static seedu.address.storage.BinaryHouseholdBookStorage.STRING_SECTION;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyHouseholdBook;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.session.Session;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes a household book to disk in the format read by {@link BinaryHouseholdBookStorage}.
+ */
+class BinaryHouseholdBookWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private BinaryHouseholdBookWriter() {} // prevents instantiation
+
+    /**
+     * Replaces the file at {@code filePath} with {@code householdBook}, creating missing parent directories.
+     * A crash at any point leaves either the old or the new file in place.
+     *
+     * @throws IOException if there was an error writing to the file, or a session ID is not a UUID.
+     */
+    static void write(ReadOnlyHouseholdBook householdBook, Path filePath) throws IOException {
+        Path temporaryFilePath = JsonHouseholdBookWriter.getTemporaryFilePath(filePath);
+        FileUtil.createParentDirsOfFile(temporaryFilePath);
+        try (FileChannel channel = FileChannel.open(temporaryFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(householdBook, channel);
+            channel.force(true);
+        }
+        FileUtil.moveAtomically(temporaryFilePath, filePath);
+    }
+
+    /**
+     * Writes {@code householdBook} to the empty file open in {@code channel}.
+     */
+    static void write(ReadOnlyHouseholdBook householdBook, FileChannel channel) throws IOException {
+        List<Household> households = householdBook.getHouseholdList();
+        List<Session> sessions = householdBook.getSessionList();
+
+        StringTable strings = new StringTable();
+        Map<HouseholdId, Integer> ordinals = new HashMap<>();
+        for (Household household : households) {
+            ordinals.put(household.getId(), ordinals.size());
+            for (Tag tag : household.getTags()) {
+                strings.add(tag.tagName);
+            }
+        }
+        for (Session session : sessions) {
+            if (session.getNote() != null) {
+                strings.add(session.getNote().toString());
+            }
+            if (!ordinals.containsKey(session.getHouseholdId())) {
+                strings.add(session.getHouseholdId().toString());
+            }
+        }
+
+        SectionOutput out = new SectionOutput(channel);
+        out.putInt(MAGIC);
+        out.putShort(FORMAT_VERSION);
+
+        out.startSection(STRING_SECTION);
+        out.putInt(strings.size());
+        for (String string : strings.values) {
+            out.putString(string);
+        }
+        out.endSection();
+
+        out.startSection(HOUSEHOLD_SECTION);
+        out.putInt(households.size());
+        for (Household household : households) {
+            out.putString(household.getId().toString());
+            out.putString(household.getName().toString());
+            out.putString(household.getAddress().toString());
+            out.putString(household.getContact().toString());
+            out.putInt(household.getTags().size());
+            for (Tag tag : household.getTags()) {
+                out.putInt(strings.indexOf(tag.tagName));
+            }
+        }
+        out.endSection();
+
+        out.startSection(SESSION_SECTION);
+        out.putInt(sessions.size());
+        for (Session session : sessions) {
+            Integer ordinal = ordinals.get(session.getHouseholdId());
+            // Sessions of households missing from the book keep the household ID in the string table instead.
+            out.putInt(ordinal != null ? ordinal : -1 - strings.indexOf(session.getHouseholdId().toString()));
+            out.putLong(session.getEpochMinute());
+            checkUuidSessionId(session);
+            out.putLong(session.getIdMostSignificantBits());
+            out.putLong(session.getIdLeastSignificantBits());
+            out.putInt(session.getNote() != null ? strings.indexOf(session.getNote().toString()) : NO_STRING);
+        }
+        out.endSection();
+
+        out.startSection(END_SECTION);
+        out.endSection();
+        out.flush();
+    }
+
+    /**
+     * Checks that the session ID of {@code session} is a UUID whose halves convert back to the same string.
+     */
+    private static void checkUuidSessionId(Session session) throws IOException {
+        if (!session.hasUuidSessionId()) {
+            throw new IOException("Session ID cannot be stored in binary format: " + session.getSessionId());
+        }
+    }
+
+    /**
+     * The distinct tag names, notes and household IDs of a household book, numbered in the order first added.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        void add(String value) {
+            if (indexes.putIfAbsent(value, values.size()) == null) {
+                values.add(value);
+            }
+        }
+
+        int indexOf(String value) {
+            return indexes.get(value);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * Buffers writes to a channel, prefixing each section with its length and following it with its checksum.
+     */
+    private static class SectionOutput {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private final CRC32 checksum = new CRC32();
+        /** Bytes flushed to the channel so far. */
+        private long flushed;
+        /** Start of the bytes in the buffer not yet added to the checksum of the open section; -1 if none is open. */
+        private int checksumFrom = -1;
+        /** Offset of the length of the open section from the start of the file. */
+        private long lengthOffset;
+
+        SectionOutput(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void startSection(byte type) throws IOException {
+            ensureRemaining(Byte.BYTES + Integer.BYTES);
+            buffer.put(type);
+            lengthOffset = flushed + buffer.position();
+            buffer.putInt(0);
+            checksum.reset();
+            checksumFrom = buffer.position();
+        }
+
+        void endSection() throws IOException {
+            updateChecksum();
+            long length = flushed + buffer.position() - lengthOffset - Integer.BYTES;
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Household book is too large to be stored in binary format");
+            }
+            checksumFrom = -1;
+            if (lengthOffset >= flushed) {
+                buffer.putInt((int) (lengthOffset - flushed), (int) length);
+            } else {
+                ByteBuffer patch = ByteBuffer.allocate(Integer.BYTES).putInt((int) length).flip();
+                while (patch.hasRemaining()) {
+                    channel.write(patch, lengthOffset + patch.position());
+                }
+            }
+            putInt((int) checksum.getValue());
+        }
+
+        void putShort(short value) throws IOException {
+            ensureRemaining(Short.BYTES);
+            buffer.putShort(value);
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        /** Writes {@code value} as its length in UTF-8 bytes followed by those bytes. */
+        void putString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensureRemaining(1);
+                int count = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, count);
+                offset += count;
+            }
+        }
+
+        void flush() throws IOException {
+            updateChecksum();
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                flushed += channel.write(buffer);
+            }
+            buffer.clear();
+            if (checksumFrom >= 0) {
+                checksumFrom = 0;
+            }
+        }
+
+        private void ensureRemaining(int count) throws IOException {
+            if (buffer.remaining() < count) {
+                flush();
+            }
+        }
+
+        private void updateChecksum() {
+            if (checksumFrom >= 0) {
+                checksum.update(buffer.array(), checksumFrom, buffer.position() - checksumFrom);
+                checksumFrom = buffer.position();
+            }
+        }
+    }
+}
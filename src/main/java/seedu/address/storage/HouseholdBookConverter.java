@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyHouseholdBook;
+import seedu.address.model.UserPrefs.HouseholdBookFormat;
+
+/**
+ * Imports and exports household book data files between the json and binary formats.
+ *
+ * <p>Run with {@code gradlew convertData -Pfrom=<source file> -Pto=<target file>}. Files whose names end in
+ * {@code .json} are treated as json, all others as binary.</p>
+ */
+public class HouseholdBookConverter {
+
+    private static final String JSON_EXTENSION = ".json";
+
+    private HouseholdBookConverter() {} // prevents instantiation
+
+    /**
+     * Returns the format of the data file at {@code filePath}, judging by its name.
+     */
+    public static HouseholdBookFormat formatOf(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.getFileName().toString().endsWith(JSON_EXTENSION)
+                ? HouseholdBookFormat.JSON
+                : HouseholdBookFormat.BINARY;
+    }
+
+    /**
+     * Returns a storage for the data file at {@code filePath} in {@code format}.
+     */
+    public static HouseholdBookStorage storageFor(HouseholdBookFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        return switch (format) {
+        case JSON -> new JsonHouseholdBookStorage(filePath);
+        case BINARY -> new BinaryHouseholdBookStorage(filePath);
+        };
+    }
+
+    /**
+     * Saves the household book read from {@code source} to {@code target}.
+     *
+     * @return false if {@code source} has no data to convert.
+     * @throws DataLoadingException if the data in {@code source} cannot be loaded.
+     * @throws IOException if there was an error writing to {@code target}.
+     */
+    public static boolean convert(HouseholdBookStorage source, HouseholdBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        Optional<ReadOnlyHouseholdBook> householdBook = source.readHouseholdBook();
+        if (householdBook.isEmpty()) {
+            return false;
+        }
+        target.saveHouseholdBook(householdBook.get());
+        return true;
+    }
+
+    /**
+     * Converts the data file named by the first argument into the file named by the second argument.
+     */
+    public static void main(String[] args) throws DataLoadingException, IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: HouseholdBookConverter <source file> <target file>");
+            System.exit(1);
+        }
+        Path sourcePath = Paths.get(args[0]);
+        Path targetPath = Paths.get(args[1]);
+        HouseholdBookFormat sourceFormat = formatOf(sourcePath);
+        HouseholdBookFormat targetFormat = formatOf(targetPath);
+        if (!convert(storageFor(sourceFormat, sourcePath), storageFor(targetFormat, targetPath))) {
+            System.err.println("No household book data found at " + sourcePath);
+            System.exit(1);
+        }
+        System.out.println("Converted " + sourcePath + " (" + sourceFormat + ") to " + targetPath
+                + " (" + targetFormat + ")");
+    }
+}
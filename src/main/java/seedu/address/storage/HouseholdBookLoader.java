@@ -0,0 +1,233 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableHouseholdBook.MESSAGE_DUPLICATE_HOUSEHOLD;
+import static seedu.address.storage.JsonSerializableHouseholdBook.MESSAGE_DUPLICATE_SESSION;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.HouseholdBook;
+import seedu.address.model.ReadOnlyHouseholdBook;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.session.Session;
+
+/**
+ * Builds a {@code HouseholdBook} from stored households and sessions added one at a time in file order.
+ *
+ * <p>Stored elements are validated, converted to model objects and checked for duplicates in chunks on a
+ * fork-join pool while the caller reads on. If any element is invalid, {@link #build()} reports the error of the
+ * element that comes first in the file, so the error does not depend on how the chunks were scheduled.
+ * Sessions may come before their households.</p>
+ */
+class HouseholdBookLoader {
+
+    /** Number of stored elements converted by one task. */
+    static final int CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+
+    private final List<Chunk<Household>> householdChunks = new ArrayList<>();
+    private final List<Chunk<Session>> sessionChunks = new ArrayList<>();
+    private Chunk<Household> pendingHouseholds;
+    private Chunk<Session> pendingSessions;
+    private int elementCount;
+
+    private final ConcurrentMap<HouseholdId, Integer> householdIds = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> names = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> addresses = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> contacts = new ConcurrentHashMap<>();
+    /** Sessions are equal exactly when their IDs are, so they key themselves by ID without creating a string. */
+    private final ConcurrentMap<Session, Integer> sessionIds = new ConcurrentHashMap<>();
+
+    private final AtomicReference<ElementError> firstError = new AtomicReference<>();
+
+    HouseholdBookLoader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    HouseholdBookLoader(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Converts a stored element to a model object.
+     */
+    interface Conversion<T> {
+        T toModelType() throws IllegalValueException;
+    }
+
+    /**
+     * Adds the household converted by {@code household} to the household book.
+     * A household with the same ID, name, address or contact as an earlier one is reported as a duplicate.
+     */
+    void addHousehold(Conversion<Household> household) {
+        submit(pendingSessions);
+        pendingSessions = null;
+        if (pendingHouseholds == null) {
+            pendingHouseholds = new Chunk<>(elementCount, this::checkHousehold);
+            householdChunks.add(pendingHouseholds);
+        }
+        pendingHouseholds.conversions.add(household);
+        elementCount++;
+        if (pendingHouseholds.conversions.size() == CHUNK_SIZE) {
+            submit(pendingHouseholds);
+            pendingHouseholds = null;
+        }
+    }
+
+    /**
+     * Adds the session converted by {@code session} to the household book when it is built.
+     * A session with the same ID as an earlier one is reported as a duplicate.
+     */
+    void addSession(Conversion<Session> session) {
+        submit(pendingHouseholds);
+        pendingHouseholds = null;
+        if (pendingSessions == null) {
+            pendingSessions = new Chunk<>(elementCount, this::checkSession);
+            sessionChunks.add(pendingSessions);
+        }
+        pendingSessions.conversions.add(session);
+        elementCount++;
+        if (pendingSessions.conversions.size() == CHUNK_SIZE) {
+            submit(pendingSessions);
+            pendingSessions = null;
+        }
+    }
+
+    /**
+     * Waits for all added elements to be converted and returns the household book holding them.
+     *
+     * @throws IllegalValueException the error of the first invalid or duplicate element in file order, if any.
+     */
+    ReadOnlyHouseholdBook build() throws IllegalValueException {
+        submit(pendingHouseholds);
+        submit(pendingSessions);
+        pendingHouseholds = null;
+        pendingSessions = null;
+        for (Chunk<Household> chunk : householdChunks) {
+            chunk.task.join();
+        }
+        for (Chunk<Session> chunk : sessionChunks) {
+            chunk.task.join();
+        }
+        ElementError error = firstError.get();
+        if (error != null) {
+            throw error.exception;
+        }
+
+        HouseholdBook householdBook = new HouseholdBook();
+        for (Chunk<Household> chunk : householdChunks) {
+            for (Household household : chunk.results) {
+                householdBook.addHousehold(household);
+            }
+        }
+        for (Chunk<Session> chunk : sessionChunks) {
+            for (Session session : chunk.results) {
+                householdBook.addSessionToHousehold(session.getHouseholdId(), session);
+            }
+        }
+        householdChunks.clear();
+        sessionChunks.clear();
+        return householdBook;
+    }
+
+    private void submit(Chunk<?> chunk) {
+        if (chunk != null && chunk.task == null) {
+            chunk.task = pool.submit(() -> convert(chunk));
+        }
+    }
+
+    private <T> void convert(Chunk<T> chunk) {
+        for (int i = 0; i < chunk.conversions.size(); i++) {
+            int position = chunk.firstPosition + i;
+            ElementError error = firstError.get();
+            if (error != null && error.position < position) {
+                // An earlier element is already known to be invalid.
+                break;
+            }
+            try {
+                T result = chunk.conversions.get(i).toModelType();
+                chunk.check.check(result, position);
+                chunk.results.add(result);
+            } catch (IllegalValueException e) {
+                reportError(position, e);
+            }
+        }
+        chunk.conversions.clear();
+    }
+
+    private void checkHousehold(Household household, int position) {
+        checkUnique(householdIds, household.getId(), position, MESSAGE_DUPLICATE_HOUSEHOLD);
+        checkUnique(names, household.getName().toString(), position, MESSAGE_DUPLICATE_HOUSEHOLD);
+        checkUnique(addresses, household.getAddress().toString(), position, MESSAGE_DUPLICATE_HOUSEHOLD);
+        checkUnique(contacts, household.getContact().toString(), position, MESSAGE_DUPLICATE_HOUSEHOLD);
+    }
+
+    private void checkSession(Session session, int position) {
+        checkUnique(sessionIds, session, position, MESSAGE_DUPLICATE_SESSION);
+    }
+
+    /**
+     * Records that {@code key} occurs at {@code position}. If it also occurs at another position,
+     * reports {@code message} for the later of the two, so that the first duplicate in file order is reported
+     * whichever occurrence is checked first.
+     */
+    private <K> void checkUnique(ConcurrentMap<K, Integer> positions, K key, int position, String message) {
+        Integer other = positions.putIfAbsent(key, position);
+        while (other != null && position < other && !positions.replace(key, other, position)) {
+            other = positions.get(key);
+        }
+        if (other != null) {
+            reportError(Math.max(position, other), new IllegalValueException(message));
+        }
+    }
+
+    private void reportError(int position, IllegalValueException exception) {
+        ElementError error = new ElementError(position, exception);
+        firstError.accumulateAndGet(error, (current, next) ->
+                current == null || next.position < current.position ? next : current);
+    }
+
+    /**
+     * Checks a converted element against those converted before it.
+     */
+    private interface Check<T> {
+        void check(T result, int position);
+    }
+
+    /**
+     * Consecutive stored elements of one kind and the model objects they were converted to.
+     */
+    private static class Chunk<T> {
+        private final int firstPosition;
+        private final Check<T> check;
+        private final List<Conversion<T>> conversions = new ArrayList<>(CHUNK_SIZE);
+        private final List<T> results = new ArrayList<>(CHUNK_SIZE);
+        private ForkJoinTask<?> task;
+
+        Chunk(int firstPosition, Check<T> check) {
+            this.firstPosition = firstPosition;
+            this.check = check;
+        }
+    }
+
+    /**
+     * The error of the stored element at a position in the file.
+     */
+    private static class ElementError {
+        private final int position;
+        private final IllegalValueException exception;
+
+        ElementError(int position, IllegalValueException exception) {
+            this.position = position;
+            this.exception = exception;
+        }
+    }
+}
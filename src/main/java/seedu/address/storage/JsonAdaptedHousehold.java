@@ -61,6 +61,10 @@ public class JsonAdaptedHousehold {
                 .collect(Collectors.toList()));
     }
 
+    String getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted household object into the model's {@code Household} object.
      *
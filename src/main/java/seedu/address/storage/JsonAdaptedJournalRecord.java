@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.HouseholdBook;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.session.Session;
+
+/**
+ * Jackson-friendly version of one change recorded in the household book journal.
+ *
+ * <p>Records set or remove a single household or session by ID. A {@code commit} record ends each group of records
+ * written by one save. A group holds at most one record per session, and at most one record per household apart from
+ * a household deleted and then put again, which moves it to the end. The journal starts with
+ * a {@code header} record holding the generation of the snapshot its records apply to.</p>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    static final String PUT_HOUSEHOLD = "putHousehold";
+    static final String DELETE_HOUSEHOLD = "deleteHousehold";
+    static final String PUT_SESSION = "putSession";
+    static final String DELETE_SESSION = "deleteSession";
+    static final String COMMIT = "commit";
+    static final String HEADER = "header";
+
+    static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    private final String op;
+    private final String id;
+    private final JsonAdaptedHousehold household;
+    private final JsonAdaptedSession session;
+    private final Long generation;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("id") String id,
+            @JsonProperty("household") JsonAdaptedHousehold household,
+            @JsonProperty("session") JsonAdaptedSession session, @JsonProperty("generation") Long generation) {
+        this.op = op;
+        this.id = id;
+        this.household = household;
+        this.session = session;
+        this.generation = generation;
+    }
+
+    static JsonAdaptedJournalRecord putHousehold(Household household) {
+        return new JsonAdaptedJournalRecord(PUT_HOUSEHOLD, null, new JsonAdaptedHousehold(household), null, null);
+    }
+
+    static JsonAdaptedJournalRecord deleteHousehold(HouseholdId id) {
+        return new JsonAdaptedJournalRecord(DELETE_HOUSEHOLD, id.toString(), null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord putSession(Session session) {
+        return new JsonAdaptedJournalRecord(PUT_SESSION, null, null, new JsonAdaptedSession(session), null);
+    }
+
+    static JsonAdaptedJournalRecord deleteSession(String sessionId) {
+        return new JsonAdaptedJournalRecord(DELETE_SESSION, sessionId, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord commit() {
+        return new JsonAdaptedJournalRecord(COMMIT, null, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord header(long generation) {
+        return new JsonAdaptedJournalRecord(HEADER, null, null, null, generation);
+    }
+
+    boolean isCommit() {
+        return COMMIT.equals(op);
+    }
+
+    boolean isHeader() {
+        return HEADER.equals(op);
+    }
+
+    /**
+     * Returns the snapshot generation held by this header record.
+     *
+     * @throws IllegalValueException if this record is not a header or has no generation.
+     */
+    long getGeneration() throws IllegalValueException {
+        if (!isHeader() || generation == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op));
+        }
+        return generation;
+    }
+
+    /**
+     * Returns the ID of the session this record deletes or replaces, if any.
+     * Such sessions must be removed from the household book before {@link #applyTo(HouseholdBook)} is called.
+     */
+    Optional<String> getRemovedSessionId() {
+        if (PUT_SESSION.equals(op) && session != null) {
+            return Optional.ofNullable(session.getSessionId());
+        } else if (DELETE_SESSION.equals(op)) {
+            return Optional.ofNullable(id);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Applies this record to the household book being replayed, apart from removing the session returned by
+     * {@link #getRemovedSessionId()}.
+     *
+     * @throws IllegalValueException if this record is missing the fields its operation needs or holds invalid data.
+     */
+    void applyTo(HouseholdBook householdBook) throws IllegalValueException {
+        if (PUT_HOUSEHOLD.equals(op) && household != null && household.getId() != null) {
+            Household putHousehold = household.toModelType();
+            Optional<Household> existing = householdBook.getHouseholdById(putHousehold.getId());
+            if (existing.isPresent()) {
+                // The household keeps its sessions, as when it is edited in the model.
+                putHousehold.addSessions(existing.get().getSessions());
+                householdBook.updateHousehold(existing.get(), putHousehold);
+            } else {
+                householdBook.addHousehold(putHousehold);
+            }
+        } else if (DELETE_HOUSEHOLD.equals(op) && id != null) {
+            householdBook.getHouseholdById(HouseholdId.of(id)).ifPresent(householdBook::removeHousehold);
+        } else if (PUT_SESSION.equals(op) && session != null && session.getSessionId() != null) {
+            // Adding the session after removing it moves an edited session to the end, as editing it does in the model.
+            Session putSession = session.toModelType();
+            householdBook.addSessionToHousehold(putSession.getHouseholdId(), putSession);
+        } else if (!DELETE_SESSION.equals(op) || id == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op));
+        }
+    }
+}
@@ -45,13 +45,27 @@ public class JsonAdaptedSession {
      * Converts a given {@code Session} into this class for Jackson use.
      */
     public JsonAdaptedSession(Session source) {
-        sessionId = source.getSessionId();
+        char[] buffer = new char[JsonHouseholdBookWriter.BUFFER_LENGTH];
+        if (source.hasUuidSessionId()) {
+            JsonHouseholdBookWriter.putUuid(buffer, source.getIdMostSignificantBits(),
+                    source.getIdLeastSignificantBits());
+            sessionId = new String(buffer, 0, JsonHouseholdBookWriter.UUID_LENGTH);
+        } else {
+            sessionId = source.getSessionId();
+        }
         householdId = source.getHouseholdId().toString();
-        date = source.getDate().toString();
-        time = source.getTime().toString();
+        date = JsonHouseholdBookWriter.putDate(buffer, source.getEpochMinute())
+                ? new String(buffer, 0, JsonHouseholdBookWriter.DATE_LENGTH)
+                : source.getDate().toString();
+        JsonHouseholdBookWriter.putTime(buffer, source.getEpochMinute());
+        time = new String(buffer, 0, JsonHouseholdBookWriter.TIME_LENGTH);
         note = source.getNote() != null ? source.getNote().toString() : null;
     }
 
+    String getSessionId() {
+        return sessionId;
+    }
+
     /**
      * Converts this Jackson-friendly adapted session object into the model's {@code Session} object.
      *
@@ -61,8 +75,9 @@ public class JsonAdaptedSession {
         if (sessionId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "SessionId"));
         }
+        final UUID uuid;
         try {
-            UUID.fromString(sessionId);
+            uuid = UUID.fromString(sessionId);
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(Session.MESSAGE_CONSTRAINTS_SESSION_ID);
         }
@@ -74,7 +89,7 @@ public class JsonAdaptedSession {
         if (!HouseholdId.isValidId(householdId)) {
             throw new IllegalValueException(HouseholdId.MESSAGE_CONSTRAINTS);
         }
-        final HouseholdId modelHouseholdId = new HouseholdId(householdId);
+        final HouseholdId modelHouseholdId = HouseholdId.of(householdId);
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -96,7 +111,6 @@ public class JsonAdaptedSession {
 
         final SessionNote modelNote = note != null ? new SessionNote(note) : null;
 
-        UUID uuid = UUID.fromString(sessionId);
         if (modelNote == null) {
             return new Session(uuid, modelHouseholdId, modelDate, modelTime);
         } else {
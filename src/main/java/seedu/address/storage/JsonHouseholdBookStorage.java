@@ -2,11 +2,20 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -19,12 +28,40 @@ import seedu.address.model.ReadOnlyHouseholdBook;
  */
 public class JsonHouseholdBookStorage implements HouseholdBookStorage {
 
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+
+    private static final String HOUSEHOLDS_FIELD = "households";
+    private static final String SESSIONS_FIELD = "sessions";
+
     private static final Logger logger = LogsCenter.getLogger(JsonHouseholdBookStorage.class);
 
     private final Path filePath;
+    private final boolean prettyPrint;
+    private final int backupCount;
 
     public JsonHouseholdBookStorage(Path filePath) {
+        this(filePath, true, DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath} that indents the saved data if {@code prettyPrint} is true
+     * and keeps the previous {@code backupCount} versions of the file.
+     */
+    public JsonHouseholdBookStorage(Path filePath, boolean prettyPrint, int backupCount) {
+        if (backupCount < 0) {
+            throw new IllegalArgumentException("Backup count must not be negative: " + backupCount);
+        }
         this.filePath = filePath;
+        this.prettyPrint = prettyPrint;
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Returns the path of the {@code generation}-th most recent backup of the file at {@code filePath},
+     * counting from 1.
+     */
+    public static Path getBackupFilePath(Path filePath, int generation) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + generation);
     }
 
     @Override
@@ -39,28 +76,114 @@ public class JsonHouseholdBookStorage implements HouseholdBookStorage {
 
     /**
      * Similar to {@link #readHouseholdBook()}.
+     * If the file is missing or cannot be loaded, falls back to the newest of the file left by an interrupted save
+     * and the backups of the file that can be loaded.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if the file is not in the correct format.
+     * @throws DataLoadingException if the file is not in the correct format and no fallback could be loaded.
      */
     @Override
     public Optional<ReadOnlyHouseholdBook> readHouseholdBook(Path filePath) throws DataLoadingException {
+        return readStoredHouseholdBook(filePath).map(StoredHouseholdBook::getHouseholdBook);
+    }
+
+    /**
+     * Similar to {@link #readHouseholdBook(Path)}, but also returns the generation stored in the file that was
+     * loaded, which is {@link JsonHouseholdBookWriter#NO_GENERATION} if it has none.
+     */
+    Optional<StoredHouseholdBook> readStoredHouseholdBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableHouseholdBook> jsonHouseholdBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableHouseholdBook.class);
-        if (jsonHouseholdBook.isEmpty()) {
-            return Optional.empty();
+        List<Path> candidates = new ArrayList<>();
+        candidates.add(filePath);
+        candidates.add(JsonHouseholdBookWriter.getTemporaryFilePath(filePath));
+        for (int generation = 1; generation <= backupCount; generation++) {
+            candidates.add(getBackupFilePath(filePath, generation));
         }
 
-        try {
-            return Optional.of(jsonHouseholdBook.get().toModelType());
+        DataLoadingException firstFailure = null;
+        for (Path candidate : candidates) {
+            if (!Files.exists(candidate)) {
+                continue;
+            }
+            try {
+                StoredHouseholdBook householdBook = readHouseholdBookFile(candidate);
+                if (!candidate.equals(filePath)) {
+                    logger.warning("Recovered household book data from " + candidate);
+                }
+                return Optional.of(householdBook);
+            } catch (DataLoadingException e) {
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+        return Optional.empty();
+    }
+
+    private static StoredHouseholdBook readHouseholdBookFile(Path filePath) throws DataLoadingException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = JsonUtil.createParser(in)) {
+            return readHouseholdBook(parser);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads a household book in the format of {@link JsonSerializableHouseholdBook} from {@code parser}.
+     * Each household and session is handed to a {@link HouseholdBookLoader} as soon as it is read, which converts
+     * them to model objects in parallel, so Jackson-friendly objects do not pile up in memory.
+     * The generation written by {@link JsonJournalHouseholdBookStorage}, if any, is returned alongside.
+     *
+     * @throws IOException if the data is not valid JSON or not in the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static StoredHouseholdBook readHouseholdBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a household book object");
+        }
+
+        HouseholdBookLoader loader = new HouseholdBookLoader();
+        long generation = JsonHouseholdBookWriter.NO_GENERATION;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (JsonHouseholdBookWriter.GENERATION_FIELD.equals(fieldName) && value == JsonToken.VALUE_NUMBER_INT) {
+                generation = parser.getLongValue();
+            } else if (value != JsonToken.START_ARRAY) {
+                // Unknown fields and null lists are ignored, as when reading JsonSerializableHouseholdBook.
+                parser.skipChildren();
+            } else if (HOUSEHOLDS_FIELD.equals(fieldName)) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    loader.addHousehold(readElement(parser, JsonAdaptedHousehold.class)::toModelType);
+                }
+            } else if (SESSIONS_FIELD.equals(fieldName)) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    loader.addSession(readElement(parser, JsonAdaptedSession.class)::toModelType);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new StoredHouseholdBook(loader.build(), generation);
+    }
+
+    private static <T> T readElement(JsonParser parser, Class<T> elementClass) throws IOException {
+        T element = parser.readValueAs(elementClass);
+        if (element == null) {
+            throw new JsonParseException(parser, "Expected a " + elementClass.getSimpleName() + " object");
+        }
+        return element;
+    }
+
     @Override
     public void saveHouseholdBook(ReadOnlyHouseholdBook householdBook) throws IOException {
         saveHouseholdBook(householdBook, filePath);
@@ -73,10 +196,56 @@ public class JsonHouseholdBookStorage implements HouseholdBookStorage {
      */
     @Override
     public void saveHouseholdBook(ReadOnlyHouseholdBook householdBook, Path filePath) throws IOException {
+        saveHouseholdBook(householdBook, filePath, JsonHouseholdBookWriter.NO_GENERATION);
+    }
+
+    /**
+     * Similar to {@link #saveHouseholdBook(ReadOnlyHouseholdBook, Path)}, storing {@code generation} with the data.
+     */
+    void saveHouseholdBook(ReadOnlyHouseholdBook householdBook, Path filePath, long generation) throws IOException {
         requireNonNull(householdBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableHouseholdBook(householdBook), filePath);
+        Path temporaryFilePath = JsonHouseholdBookWriter.writeTemporary(householdBook, filePath, prettyPrint,
+                generation);
+        rotateBackups(filePath);
+        FileUtil.moveAtomically(temporaryFilePath, filePath);
+    }
+
+    /**
+     * Moves the file at {@code filePath} and its backups one generation back, dropping the oldest backup.
+     */
+    private void rotateBackups(Path filePath) throws IOException {
+        if (backupCount == 0 || !Files.exists(filePath)) {
+            return;
+        }
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupFilePath(filePath, generation);
+            if (Files.exists(backup)) {
+                FileUtil.moveAtomically(backup, getBackupFilePath(filePath, generation + 1));
+            }
+        }
+        FileUtil.moveAtomically(filePath, getBackupFilePath(filePath, 1));
+    }
+
+    /**
+     * A household book read from a data file, with the generation stored in the file.
+     */
+    static class StoredHouseholdBook {
+        private final ReadOnlyHouseholdBook householdBook;
+        private final long generation;
+
+        StoredHouseholdBook(ReadOnlyHouseholdBook householdBook, long generation) {
+            this.householdBook = householdBook;
+            this.generation = generation;
+        }
+
+        ReadOnlyHouseholdBook getHouseholdBook() {
+            return householdBook;
+        }
+
+        long getGeneration() {
+            return generation;
+        }
     }
 }
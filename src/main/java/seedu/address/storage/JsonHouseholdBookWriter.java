@@ -0,0 +1,215 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyHouseholdBook;
+import seedu.address.model.household.Household;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.SessionTime;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes a household book to disk in the format of {@link JsonSerializableHouseholdBook}.
+ *
+ * <p>Households and sessions are written field by field straight from the model into the file,
+ * without building Jackson-friendly copies or the whole document in memory first.</p>
+ */
+class JsonHouseholdBookWriter {
+
+    /** The generation written when none is given, which is also read back when the field is absent. */
+    static final long NO_GENERATION = 0;
+    static final String GENERATION_FIELD = "generation";
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    static final int UUID_LENGTH = "xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx".length();
+    static final int DATE_LENGTH = "yyyy-MM-dd".length();
+    static final int TIME_LENGTH = "HH:mm".length();
+    /** Length of a buffer that holds any of the session fields formatted by this class. */
+    static final int BUFFER_LENGTH = UUID_LENGTH;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private JsonHouseholdBookWriter() {} // prevents instantiation
+
+    /**
+     * Returns the temporary file that {@code filePath} is written to before replacing it.
+     */
+    static Path getTemporaryFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with {@code householdBook}, creating missing parent directories.
+     * A crash at any point leaves either the old or the new file in place.
+     *
+     * @param prettyPrint whether to indent the output for readability.
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(ReadOnlyHouseholdBook householdBook, Path filePath, boolean prettyPrint) throws IOException {
+        FileUtil.moveAtomically(writeTemporary(householdBook, filePath, prettyPrint, NO_GENERATION), filePath);
+    }
+
+    /**
+     * Writes {@code householdBook} to the temporary file of {@code filePath} and forces it to disk.
+     * The caller then moves the returned temporary file over {@code filePath}.
+     *
+     * @param generation the generation to store with the data, or {@link #NO_GENERATION} to store none.
+     */
+    static Path writeTemporary(ReadOnlyHouseholdBook householdBook, Path filePath, boolean prettyPrint,
+            long generation) throws IOException {
+        Path temporaryFilePath = getTemporaryFilePath(filePath);
+        FileUtil.createParentDirsOfFile(temporaryFilePath);
+        try (FileChannel channel = FileChannel.open(temporaryFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                JsonGenerator generator = JsonUtil.createGenerator(Channels.newOutputStream(channel), prettyPrint)) {
+            write(householdBook, generator, generation);
+            generator.flush();
+            channel.force(true);
+        }
+        return temporaryFilePath;
+    }
+
+    /**
+     * Writes {@code householdBook} to {@code generator}, preceded by {@code generation} unless it is
+     * {@link #NO_GENERATION}.
+     */
+    static void write(ReadOnlyHouseholdBook householdBook, JsonGenerator generator, long generation)
+            throws IOException {
+        generator.writeStartObject();
+        if (generation != NO_GENERATION) {
+            generator.writeNumberField(GENERATION_FIELD, generation);
+        }
+
+        generator.writeArrayFieldStart("households");
+        for (Household household : householdBook.getHouseholdList()) {
+            writeHousehold(household, generator);
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("sessions");
+        char[] buffer = new char[BUFFER_LENGTH];
+        for (Session session : householdBook.getSessionList()) {
+            writeSession(session, generator, buffer);
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    /** Writes {@code household} as {@link JsonAdaptedHousehold} would be written. */
+    private static void writeHousehold(Household household, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", household.getId().toString());
+        generator.writeStringField("name", household.getName().toString());
+        generator.writeStringField("address", household.getAddress().toString());
+        generator.writeStringField("contact", household.getContact().toString());
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : household.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code session} as {@link JsonAdaptedSession} would be written, formatting its ID, date and time
+     * from the longs held by the session into {@code buffer}.
+     */
+    private static void writeSession(Session session, JsonGenerator generator, char[] buffer) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("sessionId");
+        if (session.hasUuidSessionId()) {
+            putUuid(buffer, session.getIdMostSignificantBits(), session.getIdLeastSignificantBits());
+            generator.writeString(buffer, 0, UUID_LENGTH);
+        } else {
+            generator.writeString(session.getSessionId());
+        }
+        generator.writeStringField("householdId", session.getHouseholdId().toString());
+        generator.writeFieldName("date");
+        if (putDate(buffer, session.getEpochMinute())) {
+            generator.writeString(buffer, 0, DATE_LENGTH);
+        } else {
+            generator.writeString(session.getDate().toString());
+        }
+        generator.writeFieldName("time");
+        putTime(buffer, session.getEpochMinute());
+        generator.writeString(buffer, 0, TIME_LENGTH);
+        if (session.getNote() != null) {
+            generator.writeStringField("note", session.getNote().toString());
+        } else {
+            generator.writeNullField("note");
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Puts the UUID with halves {@code mostSignificantBits} and {@code leastSignificantBits} at the start of
+     * {@code buffer} in the form of {@link java.util.UUID#toString()}, taking {@link #UUID_LENGTH} characters.
+     */
+    static void putUuid(char[] buffer, long mostSignificantBits, long leastSignificantBits) {
+        putHex(buffer, 0, mostSignificantBits >>> 32, 8);
+        buffer[8] = '-';
+        putHex(buffer, 9, mostSignificantBits >>> 16, 4);
+        buffer[13] = '-';
+        putHex(buffer, 14, mostSignificantBits, 4);
+        buffer[18] = '-';
+        putHex(buffer, 19, leastSignificantBits >>> 48, 4);
+        buffer[23] = '-';
+        putHex(buffer, 24, leastSignificantBits, 12);
+    }
+
+    /**
+     * Puts the date of {@code epochMinute} at the start of {@code buffer} as {@link SessionDate#toString()} would,
+     * taking {@link #DATE_LENGTH} characters, if its year has four digits.
+     *
+     * @return false, leaving {@code buffer} unspecified, if the year does not have four digits.
+     */
+    static boolean putDate(char[] buffer, long epochMinute) {
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(epochMinute, MINUTES_PER_DAY));
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            return false;
+        }
+        putDigits(buffer, 0, date.getYear(), 4);
+        buffer[4] = '-';
+        putDigits(buffer, 5, date.getMonthValue(), 2);
+        buffer[7] = '-';
+        putDigits(buffer, 8, date.getDayOfMonth(), 2);
+        return true;
+    }
+
+    /**
+     * Puts the time of day of {@code epochMinute} at the start of {@code buffer} as {@link SessionTime#toString()}
+     * would, taking {@link #TIME_LENGTH} characters.
+     */
+    static void putTime(char[] buffer, long epochMinute) {
+        int minuteOfDay = (int) Math.floorMod(epochMinute, MINUTES_PER_DAY);
+        putDigits(buffer, 0, minuteOfDay / 60, 2);
+        buffer[2] = ':';
+        putDigits(buffer, 3, minuteOfDay % 60, 2);
+    }
+
+    private static void putHex(char[] buffer, int offset, long value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = HEX_DIGITS[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+
+    private static void putDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,483 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.HouseholdBook;
+import seedu.address.model.HouseholdBookChange;
+import seedu.address.model.ReadOnlyHouseholdBook;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.session.Session;
+import seedu.address.storage.JsonHouseholdBookStorage.StoredHouseholdBook;
+
+/**
+ * A class to access HouseholdBook data stored as a json snapshot plus an append-only journal of later changes.
+ *
+ * <p>The snapshot is the same file written by {@link JsonHouseholdBookStorage}, and is written and read through it,
+ * so it is pretty-printed, backed up and recovered as configured there. Each save appends only the
+ * households and sessions that changed since the previous save to the journal, followed by a commit record,
+ * and forces the journal to disk once per save. The changes are listed from the household book's snapshots in time
+ * proportional to their number, and the data is compared in full only when they are not known, such as on the first
+ * save after the data read is copied into another household book. Once the journal holds
+ * {@code compactionThreshold} records, the next save rewrites the snapshot and deletes the journal.</p>
+ *
+ * <p>Each snapshot written here stores a generation number higher than that of the snapshot and journal it replaces,
+ * and the journal starts with a header holding the generation of the snapshot it applies to.</p>
+ *
+ * <p>On reading, the snapshot is loaded and the committed records of the journal are replayed over it.
+ * Records after the last commit, such as those torn by a crash mid-write, are ignored. A journal of another
+ * generation, such as one left behind by a crash between replacing the snapshot and deleting the journal,
+ * is ignored as a whole.</p>
+ */
+public class JsonJournalHouseholdBookStorage implements HouseholdBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalHouseholdBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    /** Writes and reads the snapshot. */
+    private final JsonHouseholdBookStorage snapshotStorage;
+
+    /** The data at filePath as last read or written, or null if unknown; changes are journaled against it. */
+    private ReadOnlyHouseholdBook saved;
+    /** Generation of the snapshot at filePath as last read or written. */
+    private long snapshotGeneration = JsonHouseholdBookWriter.NO_GENERATION;
+    /** Length in bytes of the committed part of the journal, including its header. */
+    private long journalLength;
+    /** Number of committed records in the journal, excluding commit records. */
+    private int journalRecordCount;
+
+    public JsonJournalHouseholdBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath} that compacts the journal once it holds
+     * {@code compactionThreshold} records.
+     */
+    public JsonJournalHouseholdBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, true, JsonHouseholdBookStorage.DEFAULT_BACKUP_COUNT, compactionThreshold);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath} that compacts the journal once it holds
+     * {@code compactionThreshold} records. The snapshot is indented if {@code prettyPrint} is true, and its previous
+     * {@code backupCount} versions are kept, as by {@link JsonHouseholdBookStorage}.
+     */
+    public JsonJournalHouseholdBookStorage(Path filePath, boolean prettyPrint, int backupCount,
+            int compactionThreshold) {
+        requireNonNull(filePath);
+        if (compactionThreshold < 1) {
+            throw new IllegalArgumentException("Compaction threshold must be positive: " + compactionThreshold);
+        }
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new JsonHouseholdBookStorage(filePath, prettyPrint, backupCount);
+    }
+
+    /**
+     * Returns the path of the journal that accompanies the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getHouseholdBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyHouseholdBook> readHouseholdBook() throws DataLoadingException {
+        return readHouseholdBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readHouseholdBook()}.
+     * The snapshot is read as by {@link JsonHouseholdBookStorage#readHouseholdBook(Path)}, falling back to the file
+     * left by an interrupted save and to the backups.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if the snapshot or a committed journal record is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyHouseholdBook> readHouseholdBook(Path filePath)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+
+        Optional<StoredHouseholdBook> snapshot = snapshotStorage.readStoredHouseholdBook(filePath);
+        if (snapshot.isEmpty() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        HouseholdBook householdBook;
+        long generation = JsonHouseholdBookWriter.NO_GENERATION;
+        if (snapshot.isEmpty()) {
+            householdBook = new HouseholdBook();
+        } else if (snapshot.get().getHouseholdBook() instanceof HouseholdBook snapshotBook) {
+            householdBook = snapshotBook;
+            generation = snapshot.get().getGeneration();
+        } else {
+            householdBook = new HouseholdBook(snapshot.get().getHouseholdBook());
+            generation = snapshot.get().getGeneration();
+        }
+        JournalReplay replay;
+        try {
+            replay = replayJournal(journalFilePath, householdBook, generation);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            saved = householdBook.snapshot();
+            snapshotGeneration = generation;
+            journalLength = replay.length;
+            journalRecordCount = replay.recordCount;
+        }
+        return Optional.of(householdBook);
+    }
+
+    @Override
+    public void saveHouseholdBook(ReadOnlyHouseholdBook householdBook) throws IOException {
+        saveHouseholdBook(householdBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveHouseholdBook(ReadOnlyHouseholdBook)}.
+     * Saving to a path other than the one given at construction always writes a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveHouseholdBook(ReadOnlyHouseholdBook householdBook, Path filePath)
+            throws IOException {
+        requireNonNull(householdBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            // No journal is kept at another path, so any journal there is deleted before it could be replayed.
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            snapshotStorage.saveHouseholdBook(householdBook, filePath);
+            return;
+        }
+        ReadOnlyHouseholdBook snapshot = householdBook.snapshot();
+        if (saved == null) {
+            compact(snapshot);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = snapshot.getChangesSince(saved)
+                .map(JsonJournalHouseholdBookStorage::getChangedRecords)
+                .orElseGet(() -> getChangedRecords(saved, snapshot));
+        if (records.isEmpty()) {
+            return;
+        }
+        appendToJournal(records);
+        saved = snapshot;
+        if (journalRecordCount >= compactionThreshold) {
+            compact(snapshot);
+        }
+    }
+
+    /**
+     * Returns the records that make the changes in {@code changes}, keeping only the last change to each session
+     * and the last version of each household put. A household or session added and removed again since the last save
+     * is still deleted, which replaying ignores.
+     */
+    private static List<JsonAdaptedJournalRecord> getChangedRecords(List<HouseholdBookChange> changes) {
+        // Sessions are equal exactly when their IDs are, so they key the map without building their ID strings.
+        Set<HouseholdId> removedHouseholdIds = new LinkedHashSet<>();
+        Map<HouseholdId, HouseholdBookChange> householdPuts = new LinkedHashMap<>();
+        Map<Session, HouseholdBookChange> sessionChanges = new LinkedHashMap<>();
+        for (HouseholdBookChange change : changes) {
+            change.getHousehold().ifPresent(household -> {
+                if (change.isRemoval()) {
+                    // A household added again after it was removed is deleted and put, moving it to the end.
+                    removedHouseholdIds.add(household.getId());
+                    householdPuts.remove(household.getId());
+                } else {
+                    householdPuts.put(household.getId(), change);
+                }
+            });
+            change.getSession().ifPresent(session -> {
+                // An edited session is removed and put again, so it moves to the end as it does in the model.
+                sessionChanges.remove(session);
+                sessionChanges.put(session, change);
+            });
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        for (HouseholdBookChange change : sessionChanges.values()) {
+            if (change.isRemoval()) {
+                records.add(JsonAdaptedJournalRecord.deleteSession(change.getSession().get().getSessionId()));
+            }
+        }
+        for (HouseholdId householdId : removedHouseholdIds) {
+            records.add(JsonAdaptedJournalRecord.deleteHousehold(householdId));
+        }
+        for (HouseholdBookChange change : householdPuts.values()) {
+            records.add(JsonAdaptedJournalRecord.putHousehold(change.getHousehold().get()));
+        }
+        for (HouseholdBookChange change : sessionChanges.values()) {
+            if (!change.isRemoval()) {
+                records.add(JsonAdaptedJournalRecord.putSession(change.getSession().get()));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the records that turn {@code saved} into {@code householdBook} by comparing their data, for when the
+     * changes between them are not known.
+     * Households and sessions are immutable apart from the sessions a household holds, which are stored
+     * separately, so a changed household or session is always a different object.
+     */
+    private static List<JsonAdaptedJournalRecord> getChangedRecords(ReadOnlyHouseholdBook saved,
+            ReadOnlyHouseholdBook householdBook) {
+        Map<HouseholdId, Household> savedHouseholds = new HashMap<>();
+        for (Household household : saved.getHouseholdList()) {
+            savedHouseholds.put(household.getId(), household);
+        }
+        Map<Session, Session> savedSessions = new HashMap<>();
+        for (Session session : saved.getSessionList()) {
+            savedSessions.put(session, session);
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        Set<Session> sessions = new HashSet<>(householdBook.getSessionList());
+        for (Session session : savedSessions.keySet()) {
+            if (!sessions.contains(session)) {
+                records.add(JsonAdaptedJournalRecord.deleteSession(session.getSessionId()));
+            }
+        }
+
+        Set<HouseholdId> householdIds = new HashSet<>();
+        for (Household household : householdBook.getHouseholdList()) {
+            householdIds.add(household.getId());
+        }
+        for (HouseholdId householdId : savedHouseholds.keySet()) {
+            if (!householdIds.contains(householdId)) {
+                records.add(JsonAdaptedJournalRecord.deleteHousehold(householdId));
+            }
+        }
+
+        for (Household household : householdBook.getHouseholdList()) {
+            if (savedHouseholds.get(household.getId()) != household) {
+                records.add(JsonAdaptedJournalRecord.putHousehold(household));
+            }
+        }
+        for (Session session : householdBook.getSessionList()) {
+            if (savedSessions.get(session) != session) {
+                records.add(JsonAdaptedJournalRecord.putSession(session));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Appends {@code records} and a commit record to the journal and forces them to disk.
+     * The first group of a journal starts with its header.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder group = new StringBuilder();
+        if (journalLength == 0) {
+            group.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.header(snapshotGeneration)))
+                    .append('\n');
+        }
+        for (JsonAdaptedJournalRecord record : records) {
+            group.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        group.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.commit())).append('\n');
+        ByteBuffer buffer = ByteBuffer.wrap(group.toString().getBytes(StandardCharsets.UTF_8));
+        int groupLength = buffer.remaining();
+
+        // Until the group is on disk, the saved data is unknown and the next save must compact.
+        saved = null;
+        try (FileChannel journal = FileChannel.open(getJournalFilePath(filePath),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Drops any uncommitted records left behind by an earlier failed write.
+            journal.truncate(journalLength);
+            journal.position(journalLength);
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        }
+        journalLength += groupLength;
+        journalRecordCount += records.size();
+    }
+
+    /**
+     * Rewrites the snapshot with {@code householdBook} and empties the journal.
+     */
+    private void compact(ReadOnlyHouseholdBook householdBook) throws IOException {
+        saved = null;
+        Path journalFilePath = getJournalFilePath(filePath);
+        // The journal is only deleted once the new snapshot is in place, so their generations must differ.
+        long generation = Math.max(snapshotGeneration, readJournalGeneration(journalFilePath)) + 1;
+        snapshotStorage.saveHouseholdBook(householdBook, filePath, generation);
+        snapshotGeneration = generation;
+        journalLength = 0;
+        journalRecordCount = 0;
+        Files.deleteIfExists(journalFilePath);
+        saved = householdBook;
+    }
+
+    /**
+     * Returns the generation in the header of the journal at {@code journalFilePath}, or
+     * {@link JsonHouseholdBookWriter#NO_GENERATION} if it has no readable header.
+     */
+    private static long readJournalGeneration(Path journalFilePath) throws IOException {
+        String firstLine;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            firstLine = reader.readLine();
+        } catch (NoSuchFileException e) {
+            return JsonHouseholdBookWriter.NO_GENERATION;
+        }
+        Optional<JsonAdaptedJournalRecord> header = firstLine == null ? Optional.empty() : parseRecord(firstLine);
+        try {
+            return header.isPresent() && header.get().isHeader()
+                    ? header.get().getGeneration()
+                    : JsonHouseholdBookWriter.NO_GENERATION;
+        } catch (IllegalValueException e) {
+            return JsonHouseholdBookWriter.NO_GENERATION;
+        }
+    }
+
+    /**
+     * Applies the committed records of the journal at {@code journalFilePath}, if any, to {@code householdBook}.
+     * The journal is ignored unless it was written for the snapshot of generation {@code snapshotGeneration}.
+     *
+     * @throws DataLoadingException if the journal cannot be read or a committed record is malformed.
+     * @throws IllegalValueException if a committed record is invalid.
+     */
+    private static JournalReplay replayJournal(Path journalFilePath, HouseholdBook householdBook,
+            long snapshotGeneration) throws DataLoadingException, IllegalValueException {
+        JournalReplay replay = new JournalReplay();
+        if (!Files.exists(journalFilePath)) {
+            return replay;
+        }
+
+        String journal;
+        try {
+            journal = new String(Files.readAllBytes(journalFilePath), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading journal " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        List<JsonAdaptedJournalRecord> group = new ArrayList<>();
+        int committedEnd = 0;
+        int lineStart = 0;
+        int lineEnd;
+        while ((lineEnd = journal.indexOf('\n', lineStart)) != -1) {
+            Optional<JsonAdaptedJournalRecord> record = parseRecord(journal.substring(lineStart, lineEnd));
+            if (record.isEmpty()) {
+                if (containsCommit(journal.substring(lineEnd + 1))) {
+                    logger.warning("Malformed committed record in journal " + journalFilePath);
+                    throw new DataLoadingException(new IllegalValueException(String.format(
+                            JsonAdaptedJournalRecord.MESSAGE_INVALID_RECORD, journal.substring(lineStart, lineEnd))));
+                }
+                // Nothing after this record was committed, so it is the torn tail of an interrupted write.
+                break;
+            }
+            boolean isFirstRecord = lineStart == 0;
+            lineStart = lineEnd + 1;
+
+            if (isFirstRecord) {
+                long journalGeneration = record.get().isHeader()
+                        ? record.get().getGeneration()
+                        : JsonHouseholdBookWriter.NO_GENERATION;
+                if (journalGeneration != snapshotGeneration) {
+                    logger.warning("Ignoring journal " + journalFilePath + " of generation " + journalGeneration
+                            + ", which does not match its snapshot of generation " + snapshotGeneration);
+                    return replay;
+                }
+                if (record.get().isHeader()) {
+                    continue;
+                }
+            }
+            if (!record.get().isCommit()) {
+                group.add(record.get());
+                continue;
+            }
+            applyGroup(group, householdBook);
+            replay.recordCount += group.size();
+            committedEnd = lineStart;
+            group.clear();
+        }
+
+        if (committedEnd < journal.length()) {
+            logger.warning("Ignoring uncommitted records at the end of journal " + journalFilePath);
+        }
+        replay.length = journal.substring(0, committedEnd).getBytes(StandardCharsets.UTF_8).length;
+        return replay;
+    }
+
+    /**
+     * Applies the records of one committed group to {@code householdBook}.
+     * A group holds at most one record per session, so the sessions it deletes or replaces can be removed first,
+     * in one pass over the session list, before the other records are applied in order.
+     */
+    private static void applyGroup(List<JsonAdaptedJournalRecord> group, HouseholdBook householdBook)
+            throws IllegalValueException {
+        List<String> removedSessionIds = new ArrayList<>();
+        for (JsonAdaptedJournalRecord record : group) {
+            record.getRemovedSessionId().ifPresent(removedSessionIds::add);
+        }
+        householdBook.removeSessionsById(removedSessionIds);
+        for (JsonAdaptedJournalRecord record : group) {
+            record.applyTo(householdBook);
+        }
+    }
+
+    private static Optional<JsonAdaptedJournalRecord> parseRecord(String line) {
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean containsCommit(String lines) {
+        return lines.lines().map(JsonJournalHouseholdBookStorage::parseRecord)
+                .anyMatch(record -> record.isPresent() && record.get().isCommit());
+    }
+
+    /**
+     * The committed part of a replayed journal.
+     */
+    private static class JournalReplay {
+        private long length;
+        private int recordCount;
+    }
+}
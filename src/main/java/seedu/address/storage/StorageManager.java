@@ -2,9 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.time.LocalDate;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -12,8 +10,6 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyHouseholdBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.household.Household;
-import seedu.address.model.session.Session;
 
 /**
  * Manages storage of HouseholdBook data in local storage.
@@ -64,82 +60,7 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyHouseholdBook> readHouseholdBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        Optional<ReadOnlyHouseholdBook> householdBookOptional = householdBookStorage.readHouseholdBook(filePath);
-        if (householdBookOptional.isPresent()) {
-            ReadOnlyHouseholdBook householdBook = householdBookOptional.get();
-            if (containsInvalidData(householdBook)) {
-                logger.warning("Data file at " + filePath + " contains invalid household or session data.");
-                return Optional.empty();
-            }
-        }
-        return householdBookOptional;
-    }
-
-    /**
-     * Checks if the household book contains any invalid data that passed JSON parsing but has invalid fields
-     * @param householdBook The household book to check
-     * @return true if any invalid data is found, false otherwise
-     */
-    private boolean containsInvalidData(ReadOnlyHouseholdBook householdBook) {
-        for (Household household : householdBook.getHouseholdList()) {
-            if (!isValidHousehold(household)) {
-                logger.warning("Invalid household found: " + household.getName().toString());
-                return true;
-            }
-        }
-        for (Session session : householdBook.getSessions()) {
-            if (!isValidSession(session)) {
-                logger.warning("Invalid session found for household: " + session.getHouseholdId().toString());
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Validates a household entity beyond what JSON parsing does
-     */
-    private boolean isValidHousehold(Household household) {
-        try {
-            if (!household.getId().toString().matches("H\\d{6}")) {
-                return false;
-            }
-            if (!household.getName().toString().matches("[\\p{Alnum}\\s,.'()-]+")) {
-                return false;
-            }
-            if (household.getAddress().toString().trim().isEmpty()) {
-                return false;
-            }
-            if (!household.getContact().toString().matches("\\d+")) {
-                return false;
-            }
-            return true;
-        } catch (Exception e) {
-            // Any exception means invalid data
-            logger.warning("Exception during household validation: " + e.getMessage());
-            return false;
-        }
-    }
-
-    /**
-     * Validates a session entity beyond what JSON parsing does
-     */
-    private boolean isValidSession(Session session) {
-        try {
-            UUID.fromString(session.getSessionId().toString());
-            if (!session.getHouseholdId().toString().matches("H\\d{6}")) {
-                return false;
-            }
-            LocalDate.parse(session.getDate().toString());
-            String[] timeParts = session.getTime().toString().split(":");
-            int hours = Integer.parseInt(timeParts[0]);
-            int minutes = Integer.parseInt(timeParts[1]);
-            return hours >= 0 && hours <= 23 && minutes >= 0 && minutes <= 59;
-        } catch (Exception e) {
-            // Any exception means invalid data
-            logger.warning("Exception during session validation: " + e.getMessage());
-            return false;
-        }
+        return householdBookStorage.readHouseholdBook(filePath);
     }
 
     @Override
@@ -1,12 +1,15 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.List;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import seedu.address.model.household.Household;
+import seedu.address.model.tag.Tag;
 
 /**
  * A UI component that displays information of a {@code Household}.
@@ -20,7 +23,7 @@ public class HouseholdCard extends UiPart<Region> {
      * As a consequence, UI elements' variable names cannot be set to such keywords
      * or an exception will be thrown by JavaFX during runtime.
      */
-    public final Household household;
+    private Household household;
 
     @FXML
     private Label name;
@@ -38,35 +41,55 @@ public class HouseholdCard extends UiPart<Region> {
     /**
      * Constructs a {@code HouseholdCard} with the specified household and displayed index.
      *
-     * <p>This constructor initializes the card to display the information of the given {@code Household} object
-     * at the specified index. It sets up the household's ID, name, address,
-     * contact, and tags in the corresponding fields.</p>
+     * <p>This constructor loads the card's layout and displays the given {@code Household} in it.
+     * Use {@link #update(Household, int)} to display another household in the same card.</p>
      *
      * @param household The {@code Household} object whose information is to be displayed on the card.
      * @param displayedIndex The index at which the household appears in the list, used to display its position.
      */
     public HouseholdCard(Household household, int displayedIndex) {
         super(FXML);
-        assert household != null : "Household must not be null";
-        assert displayedIndex >= 0 : "Displayed index must be non-negative";
-        this.household = household;
 
         // Set spacing between tag labels
         tags.setHgap(4); // horizontal space between tags
         tags.setVgap(4); // vertical space if tags wrap
 
+        update(household, displayedIndex);
+    }
+
+    /**
+     * Displays {@code household} at {@code displayedIndex} in this card, replacing what it showed before.
+     * The card's nodes are reused, so this is much cheaper than creating a new card.
+     *
+     * @param household The {@code Household} object whose information is to be displayed on the card.
+     * @param displayedIndex The index at which the household appears in the list, used to display its position.
+     */
+    public void update(Household household, int displayedIndex) {
+        assert household != null : "Household must not be null";
+        assert displayedIndex >= 0 : "Displayed index must be non-negative";
+        this.household = household;
+
         id.setText(displayedIndex + ". ");
         householdId.setText(household.getId().toString());
         name.setText(household.getName().toString());
         address.setText(household.getAddress().toString());
         contact.setText(household.getContact().toString());
-        household.getTags().stream()
+
+        List<Tag> sortedTags = household.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> {
-                    Label tagLabel = new Label(tag.tagName);
-                    tagLabel.getStyleClass().add("tag-label");
-                    tags.getChildren().add(tagLabel);
-                });
+                .toList();
+        List<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > sortedTags.size()) {
+            tagLabels.subList(sortedTags.size(), tagLabels.size()).clear();
+        }
+        while (tagLabels.size() < sortedTags.size()) {
+            Label tagLabel = new Label();
+            tagLabel.getStyleClass().add("tag-label");
+            tagLabels.add(tagLabel);
+        }
+        for (int i = 0; i < sortedTags.size(); i++) {
+            ((Label) tagLabels.get(i)).setText(sortedTags.get(i).tagName);
+        }
         //Ensure tags populated correctly
         int tagCount = household.getTags().size();
         assert tags.getChildren().size() == tagCount
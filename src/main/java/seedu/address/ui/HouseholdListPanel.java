@@ -49,8 +49,12 @@ public class HouseholdListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Household} using a {@code HouseholdCard}.
+     * Each cell loads its card once and re-binds it to the household it shows on every update.
      */
     class HouseholdListViewCell extends ListCell<Household> {
+        // Created on the first non-empty update and reused for every household shown in this cell afterwards
+        private HouseholdCard card;
+
         @Override
         protected void updateItem(Household household, boolean empty) {
             super.updateItem(household, empty);
@@ -60,7 +64,12 @@ public class HouseholdListPanel extends UiPart<Region> {
                 setText(null);
                 setStyle("-fx-background-color: white");
             } else {
-                setGraphic(new HouseholdCard(household, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new HouseholdCard(household, getIndex() + 1);
+                } else {
+                    card.update(household, getIndex() + 1);
+                }
+                setGraphic(card.getRoot());
                 if (getIndex() % 2 == 0) {
                     setStyle("-fx-background-color: #FFF5E1;");
                 } else {
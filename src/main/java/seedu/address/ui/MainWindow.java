@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -37,6 +39,10 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
     private static final Logger logger = LogsCenter.getLogger(MainWindow.class);
+    private static final String MESSAGE_LOADING = "Loading household data...";
+    private static final String MESSAGE_COMMAND_QUEUED = "Household data is still loading. "
+            + "The command will run once it is loaded: %1$s";
+    private static final String MESSAGE_LOADED = "Household data loaded.";
 
     private final Stage primaryStage;
     private final Logic logic;
@@ -47,6 +53,10 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private final HelpWindow helpWindow;
 
+    // Commands entered while the household book is loading, in the order they were entered
+    private final List<String> queuedCommands = new ArrayList<>();
+    private boolean isLoading;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -82,7 +92,7 @@ public class MainWindow extends UiPart<Stage> {
         sessionListPanel = new SessionListPanel(logic.getFilteredSessionList(), logic, null);
         sessionListPanelPlaceholder.getChildren().add(sessionListPanel.getRoot());
 
-        logic.updateFilteredSessionList(session -> false);
+        logic.clearFilteredSessionList();
         assert logic.getFilteredSessionList().isEmpty()
                 : "After filtering out all sessions, the session list must be empty.";
 
@@ -112,8 +122,7 @@ public class MainWindow extends UiPart<Stage> {
         householdListPanel.getListView().getSelectionModel().selectedItemProperty()
                 .addListener((observable, oldValue, newValue) -> {
                     if (newValue != null) {
-                        logic.updateFilteredSessionList(session ->
-                                session.getHouseholdId().equals(newValue.getId()));
+                        logic.updateFilteredSessionListToHousehold(newValue.getId());
                         sessionListPanel.refresh();
 
                         sessionListPanel.setSelectedHousehold(
@@ -122,7 +131,7 @@ public class MainWindow extends UiPart<Stage> {
                         );
                         sessionListPanel.showAddSessionButton(true);
                     } else {
-                        logic.updateFilteredSessionList(session -> false);
+                        logic.clearFilteredSessionList();
                         sessionListPanel.setSelectedHousehold("Select household to view sessions", null);
                         sessionListPanel.showAddSessionButton(false);
                     }
@@ -155,6 +164,32 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Shows that the household book is being loaded. Commands entered from now on are queued until
+     * {@link #showLoaded()} is called.
+     */
+    void showLoading() {
+        isLoading = true;
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+    }
+
+    /**
+     * Shows that the household book has been loaded and runs the queued commands in the order they were entered.
+     */
+    void showLoaded() {
+        isLoading = false;
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADED);
+        List<String> commandsToRun = new ArrayList<>(queuedCommands);
+        queuedCommands.clear();
+        for (String commandText : commandsToRun) {
+            try {
+                executeCommand(commandText);
+            } catch (CommandException | ParseException e) {
+                // The error is already shown in the result display; later commands still run.
+            }
+        }
+    }
+
     /**
      * Closes the application.
      */
@@ -229,6 +264,14 @@ public class MainWindow extends UiPart<Stage> {
      * @see seedu.address.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        if (isLoading) {
+            logger.info("Queued while loading: " + commandText);
+            queuedCommands.add(commandText);
+            String feedback = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+            resultDisplay.setFeedbackToUser(feedback);
+            return new CommandResult(feedback);
+        }
+
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
@@ -24,7 +24,8 @@ public class SessionCard extends UiPart<Region> {
 
     private static final String FXML = "SessionCard.fxml";
 
-    public final Session session;
+    private Session session;
+    private int displayedIndex;
 
     @FXML
     private Label id;
@@ -46,9 +47,9 @@ public class SessionCard extends UiPart<Region> {
     /**
      * Constructs a {@code SessionCard} with the specified session, displayed index, and logic instance.
      *
-     * <p>This constructor initializes the card to display the details of the given {@code Session} object
-     * at the specified index. It sets up the session's date, time, and note (if present). The constructor also
-     * configures the action for the "Edit Session" button to open the edit dialog for that session.</p>
+     * <p>This constructor loads the card's layout and displays the given {@code Session} in it. It also
+     * configures the action for the "Edit Session" button to open the edit dialog for the displayed session.
+     * Use {@link #update(Session, int)} to display another session in the same card.</p>
      *
      * @param session The {@code Session} object whose details are to be displayed on the card.
      * @param displayedIndex The index at which the session appears in the list, used to display its position.
@@ -57,24 +58,39 @@ public class SessionCard extends UiPart<Region> {
     public SessionCard(Session session, int displayedIndex, Logic logic,
                        Runnable refreshCallback, ResultDisplay resultDisplay) {
         super(FXML);
-        assert session != null : "Session must not be null";
         assert logic != null : "Logic must not be null";
         assert refreshCallback != null : "Refresh callback must not be null";
-        this.session = session;
         this.logic = logic;
         this.refreshCallback = refreshCallback;
         this.resultDisplay = resultDisplay;
+
+        editSessionButton.setOnAction(event -> showEditSessionDialog(this.displayedIndex));
+        update(session, displayedIndex);
+    }
+
+    /**
+     * Displays {@code session} at {@code displayedIndex} in this card, replacing what it showed before.
+     * The card's nodes are reused, so this is much cheaper than creating a new card.
+     *
+     * @param session The {@code Session} object whose details are to be displayed on the card.
+     * @param displayedIndex The index at which the session appears in the list, used to display its position.
+     */
+    public void update(Session session, int displayedIndex) {
+        assert session != null : "Session must not be null";
+        this.session = session;
+        this.displayedIndex = displayedIndex;
+
         householdId.setText("Household ID: " + session.getHouseholdId().toString());
         id.setText("Session " + displayedIndex + " ");
         date.setText("Date: " + session.getDate().toString());
         time.setText("Time: " + session.getTime().toString());
         if (session.hasNote()) {
             note.setText("Note: " + session.getNote().toString());
+            note.setVisible(true);
         } else {
+            note.setText("");
             note.setVisible(false);
         }
-
-        editSessionButton.setOnAction(event -> showEditSessionDialog(displayedIndex));
     }
 
     /**
@@ -3,7 +3,6 @@ package seedu.address.ui;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
@@ -54,17 +53,8 @@ public class SessionListPanel extends UiPart<Region> {
         this.logic = logic;
         this.resultDisplay = resultDisplay;
 
-        // Sort sessions by date (descending), then time (descending)
-        SortedList<Session> sortedSessions = new SortedList<>(sessionList, (
-                s1, s2) -> {
-                    int dateCompare = s2.getDate().compareTo(s1.getDate()); // Newest date first
-                    if (dateCompare != 0) {
-                        return dateCompare;
-                    }
-                    return s2.getTime().compareTo(s1.getTime()); // Newest time first
-                });
-
-        sessionListView.setItems(sortedSessions);
+        // The model already lists sessions newest first, so switching households does not re-sort them here.
+        sessionListView.setItems(sessionList);
         sessionListView.setCellFactory(listView -> new SessionListViewCell());
 
         addSessionButton.setVisible(false);
@@ -199,8 +189,12 @@ public class SessionListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Session} using a {@code SessionCard}.
+     * Each cell loads its card once and re-binds it to the session it shows on every update.
      */
     class SessionListViewCell extends ListCell<Session> {
+        // Created on the first non-empty update and reused for every session shown in this cell afterwards
+        private SessionCard card;
+
         @Override
         protected void updateItem(Session session, boolean empty) {
             super.updateItem(session, empty);
@@ -210,8 +204,13 @@ public class SessionListPanel extends UiPart<Region> {
                 setText(null);
                 setStyle("-fx-background-color: white");
             } else {
-                setGraphic(new SessionCard(session, getIndex() + 1,
-                        logic, SessionListPanel.this::refresh, resultDisplay).getRoot());
+                if (card == null) {
+                    card = new SessionCard(session, getIndex() + 1,
+                            logic, SessionListPanel.this::refresh, resultDisplay);
+                } else {
+                    card.update(session, getIndex() + 1);
+                }
+                setGraphic(card.getRoot());
                 if (getIndex() % 2 == 0) {
                     setStyle("-fx-background-color: #FFFFFF;"); // white
                 } else {
@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows that the household book is still being loaded, queueing any commands entered until it is loaded. */
+    void showLoading();
+
+    /** Shows that the household book has been loaded and runs the commands queued while it was loading. */
+    void showLoaded();
+
 }
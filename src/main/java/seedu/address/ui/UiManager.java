@@ -50,6 +50,16 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showLoading() {
+        mainWindow.showLoading();
+    }
+
+    @Override
+    public void showLoaded() {
+        mainWindow.showLoaded();
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
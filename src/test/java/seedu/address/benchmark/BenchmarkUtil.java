@@ -0,0 +1,79 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import seedu.address.model.HouseholdBook;
+import seedu.address.model.household.Address;
+import seedu.address.model.household.Contact;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.household.Name;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.SessionTime;
+
+/**
+ * Helpers shared by the benchmarks in this package.
+ * Benchmarks are plain programs rather than JUnit tests so that they do not slow down {@code gradlew test};
+ * run them with {@code gradlew benchmark -Pbenchmark=<ClassName>}.
+ */
+public class BenchmarkUtil {
+    /** First time slot handed out by {@link #slot(long)}. */
+    public static final LocalDateTime FIRST_SLOT = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    /**
+     * Returns the household with the given ordinal. Ordinals must be below 1,000,000.
+     */
+    public static Household household(int ordinal) {
+        return new Household(new Name("Family " + ordinal),
+                new Address("Blk " + ordinal + " Benchmark Street"),
+                new Contact(String.format("8%07d", ordinal)),
+                HouseholdId.fromString(String.format("H%06d", ordinal + 1)),
+                Set.of());
+    }
+
+    /**
+     * Returns the start of the {@code n}-th distinct one-minute time slot after {@link #FIRST_SLOT}.
+     */
+    public static LocalDateTime slot(long n) {
+        return FIRST_SLOT.plusMinutes(n);
+    }
+
+    /**
+     * Returns a session for {@code householdId} booked in the {@code n}-th time slot.
+     */
+    public static Session session(HouseholdId householdId, long n) {
+        LocalDateTime slot = slot(n);
+        return new Session(householdId,
+                new SessionDate(slot.toLocalDate().toString()),
+                new SessionTime(String.format("%02d:%02d", slot.getHour(), slot.getMinute())));
+    }
+
+    /**
+     * Returns a book of {@code householdCount} households holding {@code sessionCount} sessions in total,
+     * each session in its own time slot and spread round-robin over the households.
+     */
+    public static HouseholdBook book(int householdCount, int sessionCount) {
+        HouseholdBook book = new HouseholdBook();
+        Household[] households = new Household[householdCount];
+        for (int i = 0; i < householdCount; i++) {
+            households[i] = household(i);
+            book.addHousehold(households[i]);
+        }
+        for (int i = 0; i < sessionCount; i++) {
+            HouseholdId id = households[i % householdCount].getId();
+            book.addSessionToHousehold(id, session(id, i));
+        }
+        return book;
+    }
+
+    /**
+     * Prevents the JIT from discarding a benchmark result.
+     */
+    public static void consume(Object result) {
+        if (result != null && System.identityHashCode(result) == Integer.MIN_VALUE) {
+            System.out.print("");
+        }
+    }
+}
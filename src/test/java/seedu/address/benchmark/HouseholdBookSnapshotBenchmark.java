@@ -0,0 +1,49 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+
+import seedu.address.model.HouseholdBook;
+
+/**
+ * Measures {@link HouseholdBook#snapshot()} latency as the number of stored sessions grows, against copying the
+ * household and session lists as snapshots used to.
+ * As snapshots share the book's persistent lists, their cost should stay flat from 1k to 1M sessions.
+ */
+public class HouseholdBookSnapshotBenchmark {
+    private static final int[] SESSION_COUNTS = {1_000, 10_000, 100_000, 1_000_000};
+    private static final int HOUSEHOLD_COUNT = 1_000;
+    private static final int SNAPSHOTS = 100_000;
+    private static final int COPIES = 20;
+
+    /**
+     * Runs the benchmark and prints the mean snapshot and copy latency for each book size.
+     */
+    public static void main(String[] args) {
+        System.out.printf("%12s %16s %16s%n", "sessions", "snapshot ns/op", "copy ns/op");
+        for (int sessionCount : SESSION_COUNTS) {
+            HouseholdBook book = BenchmarkUtil.book(HOUSEHOLD_COUNT, sessionCount);
+
+            // Warm up both paths before measuring.
+            timeSnapshots(book);
+            timeCopies(book);
+            System.out.printf("%12d %16.1f %16.1f%n", sessionCount, timeSnapshots(book), timeCopies(book));
+        }
+    }
+
+    private static double timeSnapshots(HouseholdBook book) {
+        long start = System.nanoTime();
+        for (int i = 0; i < SNAPSHOTS; i++) {
+            BenchmarkUtil.consume(book.snapshot());
+        }
+        return (System.nanoTime() - start) / (double) SNAPSHOTS;
+    }
+
+    private static double timeCopies(HouseholdBook book) {
+        long start = System.nanoTime();
+        for (int i = 0; i < COPIES; i++) {
+            BenchmarkUtil.consume(new ArrayList<>(book.getHouseholdList()));
+            BenchmarkUtil.consume(new ArrayList<>(book.getSessionList()));
+        }
+        return (System.nanoTime() - start) / (double) COPIES;
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdContainsKeywordsPredicate;
+
+/**
+ * Measures a text search over every household with 1, 10 and 100 keywords.
+ * Compares testing each field once per keyword, as {@link HouseholdContainsKeywordsPredicate} used to,
+ * with the predicate's compiled keyword matcher, which reads each field once whatever the number of keywords.
+ */
+public class KeywordMatcherBenchmark {
+    private static final int HOUSEHOLD_COUNT = 100_000;
+    private static final int[] KEYWORD_COUNTS = {1, 10, 100};
+    private static final int ROUNDS = 5;
+
+    /**
+     * Runs the benchmark and prints the mean time to test all households for each number of keywords.
+     */
+    public static void main(String[] args) {
+        List<Household> households = new ArrayList<>();
+        for (int i = 0; i < HOUSEHOLD_COUNT; i++) {
+            households.add(BenchmarkUtil.household(i));
+        }
+
+        System.out.printf("%d households%n", HOUSEHOLD_COUNT);
+        System.out.printf("%10s %16s %16s %10s%n", "keywords", "per keyword ms", "matcher ms", "matches");
+        for (int keywordCount : KEYWORD_COUNTS) {
+            // Keywords that mostly miss, so that every keyword is tried on most fields.
+            List<String> keywords = new ArrayList<>();
+            for (int i = 0; i < keywordCount; i++) {
+                keywords.add("Street " + (char) ('a' + i % 26) + i);
+            }
+            keywords.set(0, "Family 4242");
+            HouseholdContainsKeywordsPredicate predicate = new HouseholdContainsKeywordsPredicate(keywords, false);
+            Predicate<Household> perKeyword = household -> keywords.stream()
+                    .anyMatch(keyword -> Stream.of(household.getName().toString(),
+                                    household.getAddress().toString(),
+                                    household.getTags().toString())
+                            .anyMatch(field -> field.toLowerCase().contains(keyword.toLowerCase())));
+
+            // Warm up both predicates before measuring.
+            time(households, perKeyword);
+            time(households, predicate);
+            System.out.printf("%10d %16.1f %16.1f %10d%n", keywordCount, time(households, perKeyword),
+                    time(households, predicate), households.stream().filter(predicate).count());
+        }
+    }
+
+    private static double time(List<Household> households, Predicate<Household> predicate) {
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            int matches = 0;
+            for (Household household : households) {
+                if (predicate.test(household)) {
+                    matches++;
+                }
+            }
+            BenchmarkUtil.consume(matches);
+        }
+        return (System.nanoTime() - start) / 1e6 / ROUNDS;
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.household.Household;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonHouseholdBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.ui.HouseholdCard;
+import seedu.address.ui.HouseholdListPanel;
+import seedu.address.ui.SessionListPanel;
+
+/**
+ * Measures the cost of showing households in the household list.
+ * Compares loading a new {@link HouseholdCard} for every update, as the list cells used to, with re-binding one card
+ * with {@link HouseholdCard#update(Household, int)}, then scrolls a {@link HouseholdListPanel} through all households
+ * a few rows at a time. Needs a display, as it shows a window.
+ */
+public class ListScrollBenchmark {
+    private static final int HOUSEHOLD_COUNT = 50_000;
+    private static final int NEW_CARD_UPDATES = 5_000;
+    /** Rows scrolled at a time, fewer than fit in the window so that each household is shown once. */
+    private static final int ROWS_PER_SCROLL = 4;
+    private static final String[] TAGS = {"elderly", "urgent", "disabled", "follow-up"};
+
+    /**
+     * Runs the benchmark on the JavaFX application thread and prints the updates per second
+     * and bytes allocated per update of each way of showing a household.
+     */
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("list-scroll-benchmark");
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                run(folder);
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+        Platform.exit();
+        Files.deleteIfExists(folder);
+    }
+
+    private static void run(Path folder) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ObservableList<Household> households = FXCollections.observableArrayList();
+        for (int i = 0; i < HOUSEHOLD_COUNT; i++) {
+            Household household = BenchmarkUtil.household(i);
+            // Alternate between one and two tags, so that cards also add and remove tag labels.
+            Set<Tag> tags = i % 2 == 0
+                    ? Set.of(new Tag(TAGS[i % TAGS.length]))
+                    : Set.of(new Tag(TAGS[i % TAGS.length]), new Tag(TAGS[(i + 1) % TAGS.length]));
+            households.add(new Household(household.getName(), household.getAddress(), household.getContact(),
+                    household.getId(), tags));
+        }
+
+        System.out.printf("%d households%n", HOUSEHOLD_COUNT);
+        System.out.printf("%-14s %14s %14s%n", "update", "updates/s", "B/update");
+
+        HouseholdCard[] newCard = new HouseholdCard[1];
+        // The first round warms up the JIT and is not printed.
+        for (int round = 0; round < 2; round++) {
+            measure(round > 0, "new card", NEW_CARD_UPDATES, threads, i ->
+                    newCard[0] = new HouseholdCard(households.get(i), i + 1));
+        }
+        BenchmarkUtil.consume(newCard[0]);
+
+        HouseholdCard card = new HouseholdCard(households.get(0), 1);
+        for (int round = 0; round < 2; round++) {
+            measure(round > 0, "reused card", HOUSEHOLD_COUNT, threads, i -> card.update(households.get(i), i + 1));
+        }
+
+        LogicManager logic = new LogicManager(new ModelManager(), new StorageManager(
+                new JsonHouseholdBookStorage(folder.resolve("householdbook.json")),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json"))));
+        SessionListPanel sessionListPanel = new SessionListPanel(FXCollections.observableArrayList(), logic, null);
+        HouseholdListPanel panel = new HouseholdListPanel(households, sessionListPanel);
+        ListView<Household> listView = panel.getListView();
+        Stage stage = new Stage();
+        stage.setScene(new Scene(panel.getRoot(), 600, 800));
+        stage.show();
+        for (int round = 0; round < 2; round++) {
+            listView.scrollTo(0);
+            listView.layout();
+            measure(round > 0, "list scroll", HOUSEHOLD_COUNT / ROWS_PER_SCROLL, threads, step -> {
+                listView.scrollTo(step * ROWS_PER_SCROLL);
+                listView.layout();
+            }, ROWS_PER_SCROLL);
+        }
+        stage.close();
+    }
+
+    private static void measure(boolean print, String name, int count, com.sun.management.ThreadMXBean threads,
+                                Update update) {
+        measure(print, name, count, threads, update, 1);
+    }
+
+    /**
+     * Runs {@code update} {@code count} times, each showing {@code updatesPerRun} households,
+     * and prints the results if {@code print} is true.
+     */
+    private static void measure(boolean print, String name, int count, com.sun.management.ThreadMXBean threads,
+                                Update update, int updatesPerRun) {
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            update.run(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        long updates = (long) count * updatesPerRun;
+        if (print) {
+            System.out.printf("%-14s %14d %14d%n", name, updates * 1_000_000_000L / Math.max(1, elapsed),
+                    bytes / updates);
+        }
+    }
+
+    /**
+     * Shows the household, or scrolls to the rows, at the given position.
+     */
+    private interface Update {
+        void run(int position);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.HouseholdBook;
+import seedu.address.storage.JsonHouseholdBookStorage;
+import seedu.address.storage.JsonSerializableHouseholdBook;
+
+/**
+ * Measures the bytes allocated by one save of the household book as the book grows.
+ * Compares the previous save path, which builds a {@link JsonSerializableHouseholdBook} and the whole document
+ * as a String, with the streaming writer used by {@link JsonHouseholdBookStorage}.
+ */
+public class SaveAllocationBenchmark {
+    private static final int[] SESSION_COUNTS = {1_000, 10_000, 100_000};
+    private static final int HOUSEHOLD_COUNT = 1_000;
+    private static final int SAVES = 5;
+
+    /**
+     * Runs the benchmark and prints the mean bytes allocated per save for each book size.
+     */
+    public static void main(String[] args) throws IOException {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Path folder = Files.createTempDirectory("save-benchmark");
+        Path filePath = folder.resolve("householdbook.json");
+        JsonHouseholdBookStorage pretty = new JsonHouseholdBookStorage(filePath, true, 0);
+        JsonHouseholdBookStorage compact = new JsonHouseholdBookStorage(filePath, false, 0);
+
+        System.out.printf("%12s %18s %18s %18s%n", "sessions", "string B/save", "stream B/save", "compact B/save");
+        for (int sessionCount : SESSION_COUNTS) {
+            HouseholdBook book = BenchmarkUtil.book(HOUSEHOLD_COUNT, sessionCount);
+            SaveAction viaString = () -> JsonUtil.saveJsonFile(new JsonSerializableHouseholdBook(book), filePath);
+            SaveAction viaStream = () -> pretty.saveHouseholdBook(book);
+            SaveAction viaCompactStream = () -> compact.saveHouseholdBook(book);
+
+            // Warm up all paths before measuring.
+            measure(threads, viaString);
+            measure(threads, viaStream);
+            measure(threads, viaCompactStream);
+            System.out.printf("%12d %18d %18d %18d%n", sessionCount,
+                    measure(threads, viaString), measure(threads, viaStream), measure(threads, viaCompactStream));
+        }
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(folder);
+    }
+
+    private static long measure(com.sun.management.ThreadMXBean threads, SaveAction save) throws IOException {
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < SAVES; i++) {
+            save.run();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / SAVES;
+    }
+
+    /**
+     * One way of saving the book.
+     */
+    private interface SaveAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.benchmark;
+
+import java.util.Random;
+
+import seedu.address.model.HouseholdBook;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.session.Session;
+
+/**
+ * Measures {@link HouseholdBook#getConflictingSession} latency as the number of stored sessions grows.
+ * With the time-slot index the per-lookup cost should stay roughly flat from 1k to 1M sessions.
+ */
+public class SessionConflictBenchmark {
+    private static final int[] SESSION_COUNTS = {1_000, 10_000, 100_000, 1_000_000};
+    private static final int HOUSEHOLD_COUNT = 1_000;
+    private static final int LOOKUPS = 200_000;
+
+    /**
+     * Runs the benchmark and prints the mean lookup latency for each book size.
+     */
+    public static void main(String[] args) {
+        System.out.printf("%12s %16s %16s%n", "sessions", "hit ns/op", "miss ns/op");
+        for (int sessionCount : SESSION_COUNTS) {
+            HouseholdBook book = BenchmarkUtil.book(HOUSEHOLD_COUNT, sessionCount);
+            HouseholdId id = book.getHouseholdList().get(0).getId();
+
+            Random random = new Random(42);
+            Session[] hits = new Session[1024];
+            Session[] misses = new Session[1024];
+            for (int i = 0; i < hits.length; i++) {
+                hits[i] = BenchmarkUtil.session(id, random.nextInt(sessionCount));
+                misses[i] = BenchmarkUtil.session(id, sessionCount + random.nextInt(sessionCount));
+            }
+
+            // Warm up both paths before measuring.
+            time(book, hits);
+            time(book, misses);
+            System.out.printf("%12d %16.1f %16.1f%n", sessionCount, time(book, hits), time(book, misses));
+        }
+    }
+
+    private static double time(HouseholdBook book, Session[] probes) {
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            BenchmarkUtil.consume(book.getConflictingSession(probes[i & (probes.length - 1)]));
+        }
+        return (System.nanoTime() - start) / (double) LOOKUPS;
+    }
+}
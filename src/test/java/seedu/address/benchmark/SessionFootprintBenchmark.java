@@ -0,0 +1,48 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.SessionTime;
+
+/**
+ * Measures the heap retained by each {@link Session}, with everything it refers to that no other session shares.
+ * Sessions are built the way {@code JsonAdaptedSession} loads them, from the strings of their household ID, date and
+ * time.
+ * The heap is measured after a full collection before and after building the sessions, so run it with a heap large
+ * enough not to collect while building and without other threads allocating.
+ */
+public class SessionFootprintBenchmark {
+    private static final int SESSION_COUNT = 1_000_000;
+    private static final int HOUSEHOLD_COUNT = 1_000;
+
+    /**
+     * Runs the benchmark and prints the retained bytes per session.
+     */
+    public static void main(String[] args) {
+        Session[] sessions = new Session[SESSION_COUNT];
+        long before = usedHeap();
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            LocalDateTime slot = BenchmarkUtil.slot(i);
+            sessions[i] = new Session(UUID.randomUUID(),
+                    HouseholdId.of(String.format("H%06d", i % HOUSEHOLD_COUNT + 1)),
+                    new SessionDate(slot.toLocalDate().toString()),
+                    new SessionTime(String.format("%02d:%02d", slot.getHour(), slot.getMinute())));
+        }
+        long after = usedHeap();
+        System.out.printf("%d sessions, %.1f bytes each%n", SESSION_COUNT,
+                (after - before) / (double) SESSION_COUNT);
+        BenchmarkUtil.consume(sessions[SESSION_COUNT - 1]);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.HouseholdBook;
+import seedu.address.storage.BinaryHouseholdBookStorage;
+import seedu.address.storage.HouseholdBookStorage;
+import seedu.address.storage.JsonHouseholdBookStorage;
+
+/**
+ * Compares the time to save and load a large household book, and the size of the data file,
+ * between the json and binary storage formats.
+ */
+public class StorageFormatBenchmark {
+    private static final int HOUSEHOLD_COUNT = 100_000;
+    private static final int SESSION_COUNT = 1_000_000;
+    private static final int RUNS = 5;
+
+    /**
+     * Runs the benchmark and prints the fastest save and load time and the file size of each format.
+     */
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        HouseholdBook book = BenchmarkUtil.book(HOUSEHOLD_COUNT, SESSION_COUNT);
+        Path folder = Files.createTempDirectory("storage-format-benchmark");
+        Path jsonFilePath = folder.resolve("householdbook.json");
+        Path compactJsonFilePath = folder.resolve("compact.json");
+        Path binaryFilePath = folder.resolve("householdbook.bin");
+
+        System.out.printf("%d households, %d sessions%n", HOUSEHOLD_COUNT, SESSION_COUNT);
+        System.out.printf("%-14s %12s %12s %14s%n", "format", "save ms", "load ms", "file bytes");
+        run("json", new JsonHouseholdBookStorage(jsonFilePath, true, 0), book);
+        run("compact json", new JsonHouseholdBookStorage(compactJsonFilePath, false, 0), book);
+        run("binary", new BinaryHouseholdBookStorage(binaryFilePath), book);
+
+        Files.deleteIfExists(jsonFilePath);
+        Files.deleteIfExists(compactJsonFilePath);
+        Files.deleteIfExists(binaryFilePath);
+        Files.deleteIfExists(folder);
+    }
+
+    private static void run(String format, HouseholdBookStorage storage, HouseholdBook book)
+            throws IOException, DataLoadingException {
+        long bestSave = Long.MAX_VALUE;
+        long bestLoad = Long.MAX_VALUE;
+        // The first run warms up the JIT and is not counted.
+        for (int i = 0; i <= RUNS; i++) {
+            long start = System.nanoTime();
+            storage.saveHouseholdBook(book);
+            long saved = System.nanoTime();
+            BenchmarkUtil.consume(storage.readHouseholdBook().get());
+            long loaded = System.nanoTime();
+            if (i > 0) {
+                bestSave = Math.min(bestSave, saved - start);
+                bestLoad = Math.min(bestLoad, loaded - saved);
+            }
+        }
+        System.out.printf("%-14s %12d %12d %14d%n", format, bestSave / 1_000_000, bestLoad / 1_000_000,
+                Files.size(storage.getHouseholdBookFilePath()));
+    }
+}
@@ -12,7 +12,13 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", saveMode=" + config.getSaveMode()
+                + ", saveIntervalMillis=" + config.getSaveIntervalMillis()
+                + ", journalEnabled=" + config.isJournalEnabled()
+                + ", dataFilePrettyPrinted=" + config.isDataFilePrettyPrinted()
+                + ", dataFileBackupCount=" + config.getDataFileBackupCount()
+                + ", backgroundLoadingEnabled=" + config.isBackgroundLoadingEnabled() + "}";
         assertEquals(expected, config.toString());
     }
 
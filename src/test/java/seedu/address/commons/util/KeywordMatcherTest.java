@@ -0,0 +1,80 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void matchesAny_overlappingKeywords() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("he", "she", "his", "hers"), false);
+        assertTrue(matcher.matchesAny("ushers"));
+        assertTrue(matcher.matchesAny("ahis"));
+        assertTrue(matcher.matchesAny("sshe"));
+        assertFalse(matcher.matchesAny("hi s"));
+        assertFalse(matcher.matchesAny(""));
+
+        // A keyword inside another keyword is found through the longer keyword's states.
+        matcher = new KeywordMatcher(List.of("abcd", "bc"), false);
+        assertTrue(matcher.matchesAny("xabcx"));
+        assertFalse(matcher.matchesAny("acbd"));
+    }
+
+    @Test
+    public void matchesAny_ignoringCase() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("Tan", "ANG MO"), true);
+        assertTrue(matcher.matchesAny("TAN FAMILY"));
+        assertTrue(matcher.matchesAny("blk 1 ang mo kio"));
+        assertFalse(matcher.matchesAny("Lee"));
+
+        assertFalse(new KeywordMatcher(List.of("Tan"), false).matchesAny("tan"));
+        assertTrue(new KeywordMatcher(List.of("\u00c9COLE"), true).matchesAny("une \u00e9cole"));
+    }
+
+    @Test
+    public void matchesAny_ignoringCase_sameFoldingAsStringUtil() {
+        // Long s, dotless i and the Kelvin sign only fold to their ASCII letters through the upper case.
+        KeywordMatcher matcher = new KeywordMatcher(List.of("\u017fmith", "\u0131vy", "\u212aent"), true);
+        assertTrue(matcher.matchesAny("MR SMITH"));
+        assertTrue(matcher.matchesAny("ivy lane"));
+        assertTrue(matcher.matchesAny("Kent Ridge"));
+    }
+
+    @Test
+    public void matchesAny_noOrEmptyKeywords() {
+        assertFalse(new KeywordMatcher(List.of(), true).matchesAny("anything"));
+        assertTrue(new KeywordMatcher(List.of("zzz", ""), true).matchesAny(""));
+    }
+
+    @Test
+    public void matchesAny_randomKeywords_sameAsContains() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            List<String> keywords = new ArrayList<>();
+            for (int i = random.nextInt(6) + 1; i > 0; i--) {
+                keywords.add(randomString(random, random.nextInt(4) + 1));
+            }
+            KeywordMatcher matcher = new KeywordMatcher(keywords, false);
+            for (int i = 0; i < 20; i++) {
+                String text = randomString(random, random.nextInt(12));
+                assertEquals(keywords.stream().anyMatch(text::contains), matcher.matchesAny(text),
+                        keywords + " in " + text);
+            }
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append("abc\u00e9".charAt(random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void copyOf_sameAsSource() {
+        for (int size : new int[] {0, 1, 31, 32, 33, 1024, 1056, 1057, 40_000}) {
+            List<Integer> expected = range(size);
+            PersistentVector<Integer> vector = PersistentVector.copyOf(expected);
+            assertEquals(expected, vector);
+            assertEquals(expected, new ArrayList<>(vector)); // through the iterator
+            assertSame(vector, PersistentVector.copyOf(vector));
+        }
+    }
+
+    @Test
+    public void append_acrossTrieLevels_sameAsArrayList() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 40_000; i++) {
+            vector = vector.append(i);
+        }
+        assertEquals(range(40_000), vector);
+        assertEquals(range(40_000).hashCode(), vector.hashCode());
+    }
+
+    @Test
+    public void randomChanges_earlierVersionsUnchanged() {
+        Random random = new Random(11);
+        List<Integer> expected = new ArrayList<>(range(1_500));
+        PersistentVector<Integer> vector = PersistentVector.copyOf(expected);
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentVector<Integer>> versions = new ArrayList<>();
+        for (int round = 0; round < 2_000; round++) {
+            int choice = random.nextInt(10);
+            if (choice < 6 || expected.isEmpty()) {
+                expected.add(round);
+                vector = vector.append(round);
+            } else if (choice < 9) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -round);
+                vector = vector.with(index, -round);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.without(index);
+            }
+            if (round % 100 == 0) {
+                expectedVersions.add(new ArrayList<>(expected));
+                versions.add(vector);
+            }
+        }
+        assertEquals(expected, vector);
+        assertEquals(expectedVersions, versions);
+    }
+
+    @Test
+    public void filter_keepsMatchingElements() {
+        PersistentVector<Integer> vector = PersistentVector.copyOf(range(100));
+        assertEquals(List.of(0, 25, 50, 75), vector.filter(i -> i % 25 == 0));
+        assertSame(vector, vector.filter(i -> true));
+        assertEquals(range(100), vector);
+    }
+
+    @Test
+    public void without_manyRemovalsAcrossTrieLevels_sameAsArrayList() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>(range(40_000));
+        PersistentVector<Integer> vector = PersistentVector.copyOf(expected);
+        PersistentVector<Integer> original = vector;
+        while (expected.size() > 1_000) {
+            int index = random.nextInt(expected.size());
+            expected.remove(index);
+            vector = vector.without(index);
+        }
+        assertEquals(expected, vector);
+        assertEquals(expected, new ArrayList<>(vector));
+        assertEquals(range(40_000), original);
+
+        // Appending after removals fills the sparse trie again.
+        for (int i = 0; i < 5_000; i++) {
+            expected.add(-i);
+            vector = vector.append(-i);
+        }
+        assertEquals(expected, vector);
+
+        while (!expected.isEmpty()) {
+            int index = random.nextInt(expected.size());
+            expected.remove(index);
+            vector = vector.without(index);
+        }
+        assertSame(PersistentVector.empty(), vector);
+    }
+
+    @Test
+    public void filter_randomPredicates_sameAsArrayList() {
+        Random random = new Random(13);
+        List<Integer> expected = new ArrayList<>(range(40_000));
+        PersistentVector<Integer> vector = PersistentVector.copyOf(expected);
+        for (int round = 0; round < 100; round++) {
+            int modulus = 2 + random.nextInt(40);
+            int removed = random.nextInt(modulus);
+            expected.removeIf(i -> i % modulus == removed);
+            vector = vector.filter(i -> i % modulus != removed);
+            assertEquals(expected, vector);
+            expected.add(-round);
+            vector = vector.append(-round);
+        }
+        assertSame(PersistentVector.empty(), vector.filter(i -> false));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PersistentVector<Integer> vector = PersistentVector.copyOf(range(3));
+        assertThrows(UnsupportedOperationException.class, () -> vector.add(3));
+        assertThrows(UnsupportedOperationException.class, () -> vector.set(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> vector.iterator().remove());
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.with(-1, 0));
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -140,4 +141,20 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_matchesEqualsIgnoreCase() {
+        String[][] pairs = {{"Tan Family", "tAN fAMILY"}, {"Blk 30 #06-40", "BLK 30 #06-40"}, {"", ""},
+            {"abc", "abd"}, {"\u017fmith", "SMITH"}, {"\u0131vy", "Ivy"}, {"\u212aent", "kent"}};
+        for (String[] pair : pairs) {
+            assertEquals(pair[0].equalsIgnoreCase(pair[1]),
+                    StringUtil.foldCase(pair[0]).equals(StringUtil.foldCase(pair[1])));
+        }
+    }
 }
@@ -70,6 +70,44 @@ class LogicManagerTest {
         // Since your Storage interface does not have a save method, we simply do not verify any call here.
     }
 
+    @Test
+    void execute_readOnlyFirstCommand_skipsSave() throws Exception {
+        // The household book was just loaded, so a command that does not change it has nothing to save.
+        logicManager.execute("dummy command text");
+        Mockito.verify(storage, Mockito.never()).saveHouseholdBook(any());
+        assertEquals(1, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    void execute_unchangedHouseholdBook_skipsSave() throws Exception {
+        model.getHouseholdBook().resetData(new HouseholdBook());
+        logicManager.execute("dummy command text");
+        logicManager.execute("dummy command text");
+        logicManager.execute("dummy command text");
+        // Only the first command saves the change; the dummy command never modifies the household book.
+        Mockito.verify(storage, Mockito.times(1)).saveHouseholdBook(any());
+        assertEquals(2, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    void execute_modifiedHouseholdBook_savesAgain() throws Exception {
+        model.getHouseholdBook().resetData(new HouseholdBook());
+        logicManager.execute("dummy command text");
+        model.getHouseholdBook().resetData(new HouseholdBook());
+        logicManager.execute("dummy command text");
+        Mockito.verify(storage, Mockito.times(2)).saveHouseholdBook(any());
+        assertEquals(0, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    void execute_afterBackgroundLoadMarkedSaved_skipsSave() throws Exception {
+        // Loading in the background replaces the data once the window is shown.
+        model.getHouseholdBook().resetData(new HouseholdBook());
+        logicManager.markHouseholdBookSaved();
+        logicManager.execute("dummy command text");
+        Mockito.verify(storage, Mockito.never()).saveHouseholdBook(any());
+    }
+
     // We omit tests for storage exceptions since there is no save method to simulate exceptions.
 
     @Test
@@ -47,6 +47,13 @@ class ExitCommandTest {
                                                                 .Predicate<seedu.address.model.session
                                                                         .Session> predicate) {
 
+        }
+        @Override public void updateFilteredSessionListToHousehold(seedu.address.model.household
+                .HouseholdId householdId) {
+
+        }
+        @Override public void clearFilteredSessionList() {
+
         }
     }
 
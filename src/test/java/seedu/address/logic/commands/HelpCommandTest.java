@@ -44,6 +44,13 @@ class HelpCommandTest {
         @Override public void updateFilteredSessionList(java.util.function.Predicate<seedu
                 .address.model.session.Session> predicate) {
 
+        }
+        @Override public void updateFilteredSessionListToHousehold(seedu.address.model.household
+                .HouseholdId householdId) {
+
+        }
+        @Override public void clearFilteredSessionList() {
+
         }
     }
 
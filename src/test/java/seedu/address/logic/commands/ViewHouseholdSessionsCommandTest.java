@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,12 +9,9 @@ import static org.mockito.Mockito.when;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.HouseholdBook;
 import seedu.address.model.Model;
-import seedu.address.model.household.Household;
 import seedu.address.model.household.HouseholdId;
 
 class ViewHouseholdSessionsCommandTest {
@@ -31,26 +27,21 @@ class ViewHouseholdSessionsCommandTest {
         when(model.getHouseholdBook()).thenReturn(householdBook);
 
         householdId = new HouseholdId("H000007");
-        Household household = mock(Household.class);
-        when(household.getId()).thenReturn(householdId);
-        // Return an ObservableList for the household list.
-        ObservableList<Household> households = FXCollections.observableArrayList(household);
-        when(householdBook.getHouseholdList()).thenReturn(households);
+        when(householdBook.hasHouseholdId(householdId)).thenReturn(true);
     }
 
     @Test
     void execute_viewSessions_success() throws CommandException {
         ViewHouseholdSessionsCommand command = new ViewHouseholdSessionsCommand(householdId);
         CommandResult result = command.execute(model);
-        verify(model).updateFilteredSessionList(any());
+        verify(model).updateFilteredSessionListToHousehold(householdId);
         assertTrue(result.getFeedbackToUser().contains("Viewing sessions for household"));
     }
 
     @Test
     void execute_householdNotFound_throwsCommandException() {
-        // Simulate no household found by returning an empty ObservableList.
-        ObservableList<Household> emptyHouseholds = FXCollections.observableArrayList();
-        when(householdBook.getHouseholdList()).thenReturn(emptyHouseholds);
+        // Simulate no household found for the given ID.
+        when(householdBook.hasHouseholdId(householdId)).thenReturn(false);
         ViewHouseholdSessionsCommand command = new ViewHouseholdSessionsCommand(householdId);
         CommandException exception = assertThrows(CommandException.class, () -> command.execute(model));
         assertTrue(exception.getMessage().contains("Household not found"));
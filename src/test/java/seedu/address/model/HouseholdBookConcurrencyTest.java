@@ -0,0 +1,154 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.household.Address;
+import seedu.address.model.household.Contact;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.household.Name;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.SessionTime;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.AsyncHouseholdBookSaver;
+import seedu.address.storage.JsonHouseholdBookStorage;
+
+/**
+ * Runs a writer, a saver and report readers against one household book at the same time.
+ * The readers read each household's sessions too, which the writer keeps changing.
+ */
+public class HouseholdBookConcurrencyTest {
+    private static final int ROUNDS = 2_000;
+    private static final int READER_COUNT = 3;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void snapshot_whileWriting_consistentAndSaved() throws Exception {
+        HouseholdBook householdBook = new HouseholdBook();
+        JsonHouseholdBookStorage storage = new JsonHouseholdBookStorage(testFolder.resolve("data.json"));
+        AsyncHouseholdBookSaver saver = new AsyncHouseholdBookSaver(storage, 0);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        List<Thread> threads = new ArrayList<>();
+        threads.add(new Thread(guard(failure, () -> {
+            try {
+                write(householdBook);
+            } finally {
+                isWriting.set(false);
+            }
+        })));
+        threads.add(new Thread(guard(failure, () -> {
+            while (isWriting.get()) {
+                saver.submit(householdBook);
+            }
+        })));
+        for (int i = 0; i < READER_COUNT; i++) {
+            threads.add(new Thread(guard(failure, () -> {
+                int reports = 0;
+                while (isWriting.get() || reports == 0) {
+                    assertConsistent(householdBook.snapshot());
+                    reports++;
+                }
+            })));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get());
+
+        saver.submit(householdBook);
+        saver.close();
+        ReadOnlyHouseholdBook readBack = storage.readHouseholdBook().get();
+        assertEquals(householdBook, new HouseholdBook(readBack));
+        assertEquals(householdBook.getSessionList(), readBack.getSessionList());
+    }
+
+    /**
+     * Adds a household with a session in every round, edits it, and removes every third household with its sessions.
+     */
+    private static void write(HouseholdBook householdBook) {
+        List<Household> added = new ArrayList<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            Household household = household(i, "Family " + i);
+            householdBook.addHousehold(household);
+            householdBook.addSessionToHousehold(household.getId(), new Session(household.getId(),
+                    new SessionDate("2030-01-01"), new SessionTime(String.format("%02d:00", i % 24))));
+            // Edits carry the sessions over, as EditHouseholdCommand does.
+            Household edited = household(i, "Family " + i + " Edited");
+            edited.addSessions(household.getSessions());
+            householdBook.updateHousehold(household, edited);
+            added.add(edited);
+            if (i % 3 == 2) {
+                householdBook.removeHousehold(added.get(i - 1));
+            }
+        }
+    }
+
+    private static Household household(int i, String name) {
+        return new Household(new Name(name), new Address(i + " Test Street"),
+                new Contact(String.format("9%07d", i)), HouseholdId.of(String.format("H%06d", i + 1)),
+                Set.of(Tag.of("round" + i % 4)));
+    }
+
+    /**
+     * Asserts that {@code snapshot} holds distinct households and only sessions of those households,
+     * and that each household holds exactly its own sessions in the snapshot.
+     */
+    private static void assertConsistent(ReadOnlyHouseholdBook snapshot) {
+        Set<HouseholdId> householdIds = new HashSet<>();
+        for (Household household : snapshot.getHouseholdList()) {
+            assertTrue(householdIds.add(household.getId()));
+        }
+        Set<Session> sessions = new HashSet<>();
+        for (Session session : snapshot.getSessionList()) {
+            assertTrue(householdIds.contains(session.getHouseholdId()));
+            assertTrue(sessions.add(session));
+        }
+        assertFalse(snapshot.getHouseholdList().contains(null));
+
+        int householdSessionCount = 0;
+        for (int i = 0; i < snapshot.getHouseholdList().size(); i++) {
+            Household household = snapshot.getHouseholdList().get(i);
+            for (Session session : household.getSessions()) {
+                assertEquals(household.getId(), session.getHouseholdId());
+                assertTrue(sessions.contains(session));
+                householdSessionCount++;
+            }
+        }
+        assertEquals(sessions.size(), householdSessionCount);
+    }
+
+    /**
+     * Returns a task that runs {@code task} and records the first failure of any such task in {@code failure}.
+     */
+    private static Runnable guard(AtomicReference<Throwable> failure, Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        };
+    }
+}
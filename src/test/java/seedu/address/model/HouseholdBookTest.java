@@ -2,9 +2,11 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -12,6 +14,7 @@ import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.household.Address;
 import seedu.address.model.household.Contact;
@@ -23,6 +26,7 @@ import seedu.address.model.session.SessionDate;
 import seedu.address.model.session.SessionNote;
 import seedu.address.model.session.SessionTime;
 import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonSerializableHouseholdBook;
 
 class HouseholdBookTest {
 
@@ -86,6 +90,51 @@ class HouseholdBookTest {
         assertFalse(hb.hasHouseholdId(HouseholdId.fromString("NON_EXISTENT")));
     }
 
+    @Test
+    public void testHasHousehold_caseInsensitiveAndExcludesOwnId() {
+        Household sameNameDifferentCase = new Household(new Name("FAMILY a"), new Address("1 Other St"),
+                new Contact("61234567"), HouseholdId.fromString("H000003"), Set.of());
+        Household sameAddressDifferentCase = new Household(new Name("Family Z"), new Address("123 a st"),
+                new Contact("61234567"), HouseholdId.fromString("H000003"), Set.of());
+        Household sameContact = new Household(new Name("Family Z"), new Address("1 Other St"),
+                new Contact("81234567"), HouseholdId.fromString("H000003"), Set.of());
+        Household unique = new Household(new Name("Family Z"), new Address("1 Other St"),
+                new Contact("61234567"), HouseholdId.fromString("H000003"), Set.of());
+        Household household1Edited = new Household(new Name("family a"), household1.getAddress(),
+                household1.getContact(), household1.getId(), Set.of());
+
+        assertTrue(hb.hasHousehold(sameNameDifferentCase));
+        assertTrue(hb.hasHousehold(sameAddressDifferentCase));
+        assertTrue(hb.hasHousehold(sameContact));
+        assertFalse(hb.hasHousehold(unique));
+        assertFalse(hb.hasHousehold(household1Edited));
+
+        // After an edit, the old values are free and the new values are taken.
+        Household renamed = new Household(new Name("Family Z"), household1.getAddress(),
+                household1.getContact(), household1.getId(), Set.of());
+        hb.updateHousehold(household1, renamed);
+        assertFalse(hb.hasHousehold(sameNameDifferentCase));
+        assertTrue(hb.hasHousehold(unique));
+    }
+
+    @Test
+    public void testModificationCount_bumpedByMutatorsOnly() {
+        long count = hb.getModificationCount();
+        hb.hasHousehold(household1);
+        hb.getHouseholdById(household1.getId());
+        hb.removeSessionById("no-such-session");
+        assertEquals(count, hb.getModificationCount());
+
+        hb.updateHousehold(household1, household1);
+        assertTrue(hb.getModificationCount() > count);
+        count = hb.getModificationCount();
+        hb.removeHousehold(household2);
+        assertTrue(hb.getModificationCount() > count);
+        count = hb.getModificationCount();
+        hb.resetData(new HouseholdBook());
+        assertTrue(hb.getModificationCount() > count);
+    }
+
     @Test
     public void testResetData() {
         // Create a new HouseholdBook containing only household2 and session2.
@@ -104,6 +153,23 @@ class HouseholdBookTest {
         assertTrue(sessions.contains(session2));
     }
 
+    @Test
+    public void resetData_notifiesListenersOnce() {
+        HouseholdBook newHb = new HouseholdBook();
+        newHb.addHousehold(household2);
+        newHb.addSessionToHousehold(household2.getId(), session2);
+
+        int[] householdChanges = new int[1];
+        int[] sessionChanges = new int[1];
+        hb.getHouseholdList().addListener((ListChangeListener<Household>) change -> householdChanges[0]++);
+        hb.getSessionList().addListener((ListChangeListener<Session>) change -> sessionChanges[0]++);
+
+        hb.resetData(newHb);
+        assertEquals(1, householdChanges[0]);
+        assertEquals(1, sessionChanges[0]);
+        assertEquals(Optional.of(household2), hb.getHouseholdById(household2.getId()));
+    }
+
     @Test
     public void testAddSessionToHousehold() {
         // Add session1 to household1.
@@ -131,6 +197,20 @@ class HouseholdBookTest {
         assertEquals(session1, conflictOpt.get());
     }
 
+    @Test
+    public void testGetConflictingSession_afterRemovalAndHouseholdDeletion() {
+        hb.addSessionToHousehold(household1.getId(), session1);
+        hb.addSessionToHousehold(household2.getId(), session2);
+        Session sameSlotAsSession1 = new Session(household2.getId(), session1.getDate(), session1.getTime());
+        Session sameSlotAsSession2 = new Session(household1.getId(), session2.getDate(), session2.getTime());
+
+        hb.removeSessionById(session1.getSessionId());
+        assertTrue(hb.getConflictingSession(sameSlotAsSession1).isEmpty());
+
+        hb.removeHousehold(household2);
+        assertTrue(hb.getConflictingSession(sameSlotAsSession2).isEmpty());
+    }
+
     @Test
     public void testRemoveSessionById() {
         hb.addSessionToHousehold(household1.getId(), session1);
@@ -141,6 +221,32 @@ class HouseholdBookTest {
         assertTrue(sessions.contains(session2));
     }
 
+    @Test
+    public void testRemoveSessionsById() {
+        hb.addSessionToHousehold(household1.getId(), session1);
+        hb.addSessionToHousehold(household2.getId(), session2);
+        hb.removeSessionsById(List.of(session1.getSessionId(), session2.getSessionId(), "unknown-id"));
+        assertTrue(hb.getSessionList().isEmpty());
+        assertTrue(household1.getSessions().isEmpty());
+        assertTrue(household2.getSessions().isEmpty());
+        assertFalse(hb.hasSession(session1));
+        assertTrue(hb.getSessionById(session2.getSessionId()).isEmpty());
+    }
+
+    @Test
+    public void testRemoveSessionById_afterHouseholdEdited() {
+        hb.addSessionToHousehold(household1.getId(), session1);
+        Household edited = new Household(household1.getName(), household1.getAddress(), new Contact("61234567"),
+                household1.getId(), household1.getTags());
+        edited.addSessions(household1.getSessions());
+        hb.updateHousehold(household1, edited);
+
+        assertEquals(session1, hb.getSessionById(session1.getSessionId()).get());
+        hb.removeSessionById(session1.getSessionId());
+        assertTrue(edited.getSessions().isEmpty());
+        assertTrue(hb.getSessionList().isEmpty());
+    }
+
     @Test
     public void testGetHouseholdById() {
         Optional<Household> opt = hb.getHouseholdById(HouseholdId.fromString("H000001"));
@@ -150,6 +256,44 @@ class HouseholdBookTest {
         assertTrue(opt.isEmpty());
     }
 
+    @Test
+    public void testHouseholdIdLookup_afterUpdateRemoveAndReset() {
+        Household edited = new Household(
+                new Name("Family C"),
+                new Address("789 C St"),
+                new Contact("61234567"),
+                household1.getId(),
+                Set.of());
+        hb.updateHousehold(household1, edited);
+        assertSame(edited, hb.getHouseholdById(household1.getId()).get());
+
+        hb.removeHousehold(edited);
+        assertFalse(hb.hasHouseholdId(household1.getId()));
+        assertTrue(hb.hasHouseholdId(household2.getId()));
+
+        hb.resetData(new HouseholdBook());
+        assertFalse(hb.hasHouseholdId(household2.getId()));
+    }
+
+    @Test
+    public void getHouseholdsWithTag_afterUpdateRemoveAndReset() {
+        assertEquals(List.of(household1), List.copyOf(hb.getHouseholdsWithTag(new Tag("tag1"))));
+        assertTrue(hb.getHouseholdsWithTag(new Tag("tag3")).isEmpty());
+
+        Household retagged = new Household(household1.getName(), household1.getAddress(), household1.getContact(),
+                household1.getId(), Set.of(new Tag("tag2"), new Tag("tag3")));
+        hb.updateHousehold(household1, retagged);
+        assertTrue(hb.getHouseholdsWithTag(new Tag("tag1")).isEmpty());
+        assertEquals(List.of(household2, retagged), List.copyOf(hb.getHouseholdsWithTag(new Tag("tag2"))));
+        assertEquals(List.of(retagged), List.copyOf(hb.getHouseholdsWithTag(new Tag("tag3"))));
+
+        hb.removeHousehold(household2);
+        assertEquals(List.of(retagged), List.copyOf(hb.getHouseholdsWithTag(new Tag("tag2"))));
+
+        hb.resetData(new HouseholdBook());
+        assertTrue(hb.getHouseholdsWithTag(new Tag("tag3")).isEmpty());
+    }
+
     @Test
     public void testGetHouseholdListUnmodifiable() {
         ObservableList<Household> list = hb.getHouseholdList();
@@ -162,6 +306,102 @@ class HouseholdBookTest {
         assertThrows(UnsupportedOperationException.class, () -> list.add(session1));
     }
 
+    @Test
+    public void snapshot_laterChanges_snapshotUnchangedAndSerializable() throws Exception {
+        hb.addSessionToHousehold(household1.getId(), session1);
+        ReadOnlyHouseholdBook snapshot = hb.snapshot();
+        HouseholdBook expected = new HouseholdBook(hb);
+
+        Household editedHousehold2 = new Household(new Name("Family B2"), new Address("456 B St"),
+                new Contact("81234567"), household2.getId(), Set.of());
+        hb.updateHousehold(household2, editedHousehold2);
+        hb.addSessionToHousehold(household2.getId(), session2);
+        hb.removeHousehold(household1);
+
+        assertEquals(List.of(household1, household2), snapshot.getHouseholdList());
+        assertEquals(List.of(session1), snapshot.getHouseholdList().get(0).getSessions());
+        assertEquals(List.of(), snapshot.getHouseholdList().get(1).getSessions());
+        assertEquals(List.of(session1), snapshot.getSessionList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getSessionList().add(session2));
+        assertSame(snapshot, snapshot.snapshot());
+
+        ReadOnlyHouseholdBook readBack = new JsonSerializableHouseholdBook(snapshot).toModelType();
+        assertEquals(expected, new HouseholdBook(readBack));
+        assertEquals(List.of(session1), readBack.getSessionList());
+        assertEquals(List.of(editedHousehold2), hb.snapshot().getHouseholdList());
+        assertEquals(List.of(session2), hb.snapshot().getSessionList());
+    }
+
+    @Test
+    public void snapshot_householdSessionsChangedLater_snapshotHouseholdSessionsUnchanged() {
+        Session laterSession = new Session(household1.getId(), new SessionDate("2024-01-03"),
+                new SessionTime("09:00"));
+        hb.addSessionToHousehold(household1.getId(), session1);
+        ReadOnlyHouseholdBook snapshot = hb.snapshot();
+        hb.addSessionToHousehold(household1.getId(), laterSession);
+        ReadOnlyHouseholdBook laterSnapshot = hb.snapshot();
+        hb.removeSessionById(session1.getSessionId());
+
+        Household snapshotHousehold1 = snapshot.getHouseholdList().get(0);
+        assertEquals(List.of(session1), snapshotHousehold1.getSessions());
+        assertEquals(List.of(laterSession, session1), laterSnapshot.getHouseholdList().get(0).getSessions());
+        assertEquals(List.of(laterSession), household1.getSessions());
+        assertThrows(UnsupportedOperationException.class, () -> snapshotHousehold1.addSession(laterSession));
+        assertSame(snapshotHousehold1, snapshot.getHouseholdList().get(0));
+    }
+
+    @Test
+    public void changes_changeExecutor_madeAndNotifiedWhenRun() {
+        List<Runnable> pendingChanges = new ArrayList<>();
+        HouseholdBook book = new HouseholdBook(pendingChanges::add);
+        List<Household> notifiedHouseholds = new ArrayList<>();
+        book.getHouseholdList().addListener((ListChangeListener<Household>) change -> {
+            while (change.next()) {
+                notifiedHouseholds.addAll(change.getAddedSubList());
+            }
+        });
+
+        book.addHousehold(household1);
+        book.addSessionToHousehold(household1.getId(), session1);
+        assertEquals(List.of(), book.getHouseholdList());
+        assertEquals(List.of(), book.snapshot().getSessionList());
+        assertEquals(List.of(), notifiedHouseholds);
+        assertEquals(0, book.getModificationCount());
+
+        pendingChanges.forEach(Runnable::run);
+        assertEquals(List.of(household1), book.getHouseholdList());
+        assertEquals(List.of(session1), book.getSessionList());
+        assertEquals(List.of(household1), notifiedHouseholds);
+        assertEquals(2, book.getModificationCount());
+    }
+
+    @Test
+    public void getChangesSince_laterSnapshot_listsChangesInOrder() {
+        hb.addSessionToHousehold(household1.getId(), session1);
+        ReadOnlyHouseholdBook earlier = hb.snapshot();
+        Household editedHousehold2 = new Household(new Name("Family B2"), new Address("456 B St"),
+                new Contact("81234567"), household2.getId(), Set.of());
+        hb.updateHousehold(household2, editedHousehold2);
+        hb.removeHousehold(household1);
+        ReadOnlyHouseholdBook later = hb.snapshot();
+
+        List<HouseholdBookChange> changes = later.getChangesSince(earlier).get();
+        assertEquals(3, changes.size());
+        assertEquals(Optional.of(editedHousehold2), changes.get(0).getHousehold());
+        assertFalse(changes.get(0).isRemoval());
+        assertEquals(Optional.of(session1), changes.get(1).getSession());
+        assertTrue(changes.get(1).isRemoval());
+        assertSame(household1, changes.get(2).getHousehold().get());
+        assertTrue(changes.get(2).isRemoval());
+        assertEquals(List.of(), later.getChangesSince(later).get());
+
+        // The changes are not known backwards, across household books or across a reset.
+        assertEquals(Optional.empty(), earlier.getChangesSince(later));
+        assertEquals(Optional.empty(), new HouseholdBook(hb).snapshot().getChangesSince(later));
+        hb.resetData(new HouseholdBook());
+        assertEquals(Optional.empty(), hb.snapshot().getChangesSince(later));
+    }
+
     @Test
     public void testEqualsAndHashCode() {
         HouseholdBook copy = new HouseholdBook();
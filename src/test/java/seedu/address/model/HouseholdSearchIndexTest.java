@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.household.Address;
+import seedu.address.model.household.Contact;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdContainsKeywordsPredicate;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.household.Name;
+import seedu.address.model.tag.Tag;
+
+public class HouseholdSearchIndexTest {
+    private static final List<String> KEYWORDS = List.of("tan", "TAN", "ta", "t", "an Fam", "ang mo kio",
+            "Blk 12", "12", "urgent", "[urgent]", "elderly], [", "], [", "ly", "zzz", "amily", "Tan Family 3",
+            "street 4", "0");
+    private static final List<String> NUMBER_KEYWORDS = List.of("1", "12", "012", "000", "0000", "90000012",
+            "000013", "13", "123", "9000003", "8");
+
+    private final HouseholdSearchIndex index = new HouseholdSearchIndex();
+    private final List<Household> households = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < 40; i++) {
+            Household household = household(i, i % 3 == 0 ? "Tan Family " + i : "Lee Household " + i,
+                    i % 2 == 0 ? "Blk " + i + " Ang Mo Kio Avenue" : i + " Street " + (i % 7));
+            households.add(household);
+            index.add(household);
+        }
+    }
+
+    @Test
+    public void find_eachKeyword_sameAsPredicate() {
+        for (String keyword : KEYWORDS) {
+            assertSameMatches(new HouseholdContainsKeywordsPredicate(List.of(keyword), false));
+        }
+        assertSameMatches(new HouseholdContainsKeywordsPredicate(List.of("zzz", "Lee", "urgent"), false));
+    }
+
+    @Test
+    public void find_afterRemovals_sameAsPredicate() {
+        // Removing most households makes the index drop removed entries from its trigram lists.
+        for (int i = 0; i < 30; i++) {
+            index.remove(households.get(i));
+        }
+        List<Household> remaining = households.subList(30, households.size());
+        for (String keyword : KEYWORDS) {
+            HouseholdContainsKeywordsPredicate predicate =
+                    new HouseholdContainsKeywordsPredicate(List.of(keyword), false);
+            Predicate<Household> found = index.find(predicate);
+            for (Household household : remaining) {
+                assertEquals(predicate.test(household), found.test(household), keyword + " " + household);
+            }
+        }
+    }
+
+    @Test
+    public void find_householdEditedAfterSearch_testsEditedHousehold() {
+        HouseholdContainsKeywordsPredicate predicate = new HouseholdContainsKeywordsPredicate(List.of("Tan"), false);
+        Predicate<Household> found = index.find(predicate);
+        Household original = households.get(0);
+        assertTrue(found.test(original));
+
+        Household edited = household(0, "Renamed Family", "Blk 0 Ang Mo Kio Avenue");
+        index.remove(original);
+        index.add(edited);
+        assertFalse(found.test(edited));
+
+        Household added = household(99, "Tan Newcomer", "1 New Road");
+        index.add(added);
+        assertTrue(found.test(added));
+    }
+
+    @Test
+    public void find_eachNumberKeyword_sameAsPredicate() {
+        for (String keyword : NUMBER_KEYWORDS) {
+            assertSameMatches(new HouseholdContainsKeywordsPredicate(List.of(keyword), true));
+        }
+        assertSameMatches(new HouseholdContainsKeywordsPredicate(List.of("999", "0000012", "7"), true));
+    }
+
+    @Test
+    public void find_numberSearchAfterEdit_testsEditedHousehold() {
+        HouseholdContainsKeywordsPredicate predicate = new HouseholdContainsKeywordsPredicate(List.of("0013"), true);
+        Predicate<Household> found = index.find(predicate);
+        Household original = households.get(12);
+        assertTrue(found.test(original));
+
+        // The ID still contains the keyword after the contact is edited.
+        Household edited = new Household(original.getName(), original.getAddress(), new Contact("88888888"),
+                original.getId(), original.getTags());
+        index.remove(original);
+        index.add(edited);
+        assertTrue(found.test(edited));
+        assertFalse(index.find(new HouseholdContainsKeywordsPredicate(List.of("90000012"), true)).test(edited));
+    }
+
+    private void assertSameMatches(HouseholdContainsKeywordsPredicate predicate) {
+        Predicate<Household> found = index.find(predicate);
+        for (Household household : households) {
+            assertEquals(predicate.test(household), found.test(household),
+                    predicate.getKeywords() + " " + household);
+        }
+    }
+
+    private static Household household(int n, String name, String address) {
+        Set<Tag> tags = n % 4 == 0 ? Set.of(new Tag("elderly"), new Tag("urgent"))
+                : n % 4 == 1 ? Set.of(new Tag("urgent")) : Set.of();
+        return new Household(new Name(name), new Address(address), new Contact(String.format("9%07d", n)),
+                new HouseholdId(String.format("H%06d", n + 1)), tags);
+    }
+}
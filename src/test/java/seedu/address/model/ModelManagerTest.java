@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -15,6 +16,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.household.Address;
 import seedu.address.model.household.Contact;
 import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdContainsKeywordsPredicate;
 import seedu.address.model.household.HouseholdId;
 import seedu.address.model.household.Name;
 import seedu.address.model.session.Session;
@@ -74,6 +76,21 @@ class ModelManagerTest {
         assertEquals(0, filtered.size());
     }
 
+    @Test
+    public void updateFilteredHouseholdList_keywordPredicateAsPredicate_answeredFromIndex() {
+        int[] testCount = new int[1];
+        Predicate<Household> predicate = new HouseholdContainsKeywordsPredicate(List.of("test fam"), false) {
+            @Override
+            public boolean test(Household household) {
+                testCount[0]++;
+                return super.test(household);
+            }
+        };
+        modelManager.updateFilteredHouseholdList(predicate);
+        assertEquals(1, modelManager.getFilteredHouseholdList().size());
+        assertEquals(0, testCount[0]);
+    }
+
     @Test
     public void testUpdateFilteredSessionList() {
         ObservableList<Session> filtered = modelManager.getFilteredSessionList();
@@ -84,6 +101,48 @@ class ModelManagerTest {
         assertEquals(0, filtered.size());
     }
 
+    @Test
+    public void updateFilteredSessionListToHousehold_showsOnlySessionsOfThatHousehold() {
+        HouseholdId otherId = HouseholdId.fromString("H000002");
+        Session otherSession = new Session(otherId, new SessionDate("2024-02-01"), new SessionTime("10:00"));
+        modelManager.getHouseholdBook().addHousehold(new Household(new Name("Other Family"),
+                new Address("Other Address"), new Contact("81234567"), otherId, Set.of()));
+        modelManager.getHouseholdBook().addSessionToHousehold(otherId, otherSession);
+
+        modelManager.updateFilteredSessionListToHousehold(otherId);
+        assertEquals(List.of(otherSession), modelManager.getFilteredSessionList());
+
+        modelManager.updateFilteredSessionListToHousehold(HouseholdId.fromString("H000001"));
+        assertEquals(1, modelManager.getFilteredSessionList().size());
+        assertNotEquals(otherSession, modelManager.getFilteredSessionList().get(0));
+
+        modelManager.updateFilteredSessionListToHousehold(HouseholdId.fromString("H000099"));
+        assertEquals(0, modelManager.getFilteredSessionList().size());
+
+        // A predicate applies to all sessions again, which are listed newest first like those of a household.
+        modelManager.updateFilteredSessionList(session -> true);
+        assertEquals(2, modelManager.getFilteredSessionList().size());
+        assertEquals(otherSession, modelManager.getFilteredSessionList().get(0));
+
+        modelManager.clearFilteredSessionList();
+        assertEquals(0, modelManager.getFilteredSessionList().size());
+    }
+
+    @Test
+    public void updateFilteredSessionListToHousehold_householdEdited_followsEditedHousehold() {
+        HouseholdId id = HouseholdId.fromString("H000001");
+        modelManager.updateFilteredSessionListToHousehold(id);
+        Household original = modelManager.getHouseholdBook().getHouseholdById(id).get();
+        Household edited = new Household(new Name("Renamed Family"), original.getAddress(), original.getContact(),
+                id, Set.of());
+        edited.addSessions(original.getSessions());
+        modelManager.getHouseholdBook().updateHousehold(original, edited);
+
+        modelManager.getHouseholdBook().addSessionToHousehold(id,
+                new Session(id, new SessionDate("2024-03-01"), new SessionTime("11:00")));
+        assertEquals(2, modelManager.getFilteredSessionList().size());
+    }
+
     @Test
     public void testEquals() {
         ModelManager copy = new ModelManager(householdBook, userPrefs);
@@ -20,6 +20,7 @@ class UserPrefsTest {
         assertNotNull(prefs.getGuiSettings());
         // Default file path should be "data/householdbook.json"
         assertEquals(Paths.get("data", "householdbook.json"), prefs.getHouseholdBookFilePath());
+        assertEquals(UserPrefs.HouseholdBookFormat.JSON, prefs.getHouseholdBookFormat());
     }
 
     @Test
@@ -47,10 +48,12 @@ class UserPrefsTest {
         UserPrefs newPrefs = new UserPrefs();
         newPrefs.setGuiSettings(new GuiSettings(800, 600, 0, 0));
         newPrefs.setHouseholdBookFilePath(Paths.get("changed", "path.json"));
+        newPrefs.setHouseholdBookFormat(UserPrefs.HouseholdBookFormat.BINARY);
 
         prefs.resetData(newPrefs);
         assertEquals(newPrefs.getGuiSettings(), prefs.getGuiSettings());
         assertEquals(newPrefs.getHouseholdBookFilePath(), prefs.getHouseholdBookFilePath());
+        assertEquals(newPrefs.getHouseholdBookFormat(), prefs.getHouseholdBookFormat());
     }
 
     @Test
@@ -62,6 +65,10 @@ class UserPrefsTest {
 
         prefs2.setHouseholdBookFilePath(Paths.get("different", "path.json"));
         assertNotEquals(prefs1, prefs2);
+
+        UserPrefs prefs3 = new UserPrefs();
+        prefs3.setHouseholdBookFormat(UserPrefs.HouseholdBookFormat.BINARY);
+        assertNotEquals(prefs1, prefs3);
     }
 
     @Test
@@ -70,6 +77,7 @@ class UserPrefsTest {
         String str = prefs.toString();
         assertTrue(str.contains("Gui Settings :"));
         assertTrue(str.contains("Local data file location :"));
+        assertTrue(str.contains("Local data file format : JSON"));
     }
 }
 
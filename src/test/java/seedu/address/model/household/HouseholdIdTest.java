@@ -0,0 +1,76 @@
+package seedu.address.model.household;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+public class HouseholdIdTest {
+
+    @Test
+    public void isValidId() {
+        assertFalse(HouseholdId.isValidId(null));
+        assertFalse(HouseholdId.isValidId(""));
+        assertFalse(HouseholdId.isValidId("H00001")); // too few digits
+        assertFalse(HouseholdId.isValidId("H0000001")); // too many digits
+        assertFalse(HouseholdId.isValidId("h000001"));
+        assertFalse(HouseholdId.isValidId("H00000a"));
+        assertFalse(HouseholdId.isValidId("H-00001"));
+
+        assertTrue(HouseholdId.isValidId("H000000"));
+        assertTrue(HouseholdId.isValidId("H123456"));
+        assertTrue(HouseholdId.isValidId("H999999"));
+    }
+
+    @Test
+    public void of_sameNumber_sameInstance() {
+        assertSame(HouseholdId.of("H000042"), HouseholdId.of("H000042"));
+        assertSame(HouseholdId.of("H000042"), HouseholdId.fromString("H000042"));
+        assertEquals(new HouseholdId("H000042"), HouseholdId.of("H000042"));
+        assertEquals(new HouseholdId("H000042").hashCode(), HouseholdId.of("H000042").hashCode());
+        assertNotEquals(HouseholdId.of("H000042"), HouseholdId.of("H000043"));
+    }
+
+    @Test
+    public void toString_sameAsGiven() {
+        for (String id : new String[] {"H000001", "H999999", "H1000000", "NON_EXISTENT", "H0000001", "H12"}) {
+            assertEquals(id, HouseholdId.of(id).toString());
+            assertEquals(id, new HouseholdId(id).toString());
+        }
+        // IDs that only look numbered are not equal to the numbered ID.
+        assertNotEquals(HouseholdId.of("H000001"), HouseholdId.of("H0000001"));
+        assertEquals(HouseholdId.of("NON_EXISTENT"), new HouseholdId("NON_EXISTENT"));
+    }
+
+    @Test
+    public void generateNewId_afterStoredId_greaterThanStoredId() {
+        HouseholdId.fromString("H500000");
+        HouseholdId generated = HouseholdId.generateNewId();
+        assertTrue(generated.toString().compareTo("H500000") > 0);
+        assertSame(generated, HouseholdId.of(generated.toString()));
+    }
+
+    @Test
+    public void generateNewId_concurrently_distinctIds() throws Exception {
+        Set<HouseholdId> generated = ConcurrentHashMap.newKeySet();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    generated.add(HouseholdId.generateNewId());
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(4_000, generated.size());
+    }
+}
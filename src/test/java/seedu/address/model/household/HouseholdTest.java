@@ -0,0 +1,69 @@
+package seedu.address.model.household;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.SessionTime;
+
+class HouseholdTest {
+
+    private Household household;
+    private Session oldest;
+    private Session middle;
+    private Session newest;
+
+    @BeforeEach
+    public void setUp() {
+        household = new Household(new Name("Family A"), new Address("123 A St"), new Contact("91234567"),
+                HouseholdId.fromString("H000001"), Set.of());
+        oldest = new Session(household.getId(), new SessionDate("2025-01-01"), new SessionTime("09:00"));
+        middle = new Session(household.getId(), new SessionDate("2025-01-01"), new SessionTime("15:00"));
+        newest = new Session(household.getId(), new SessionDate("2025-02-01"), new SessionTime("08:00"));
+    }
+
+    @Test
+    public void addSession_anyOrder_keepsNewestFirst() {
+        household.addSession(middle);
+        household.addSession(oldest);
+        household.addSession(newest);
+        assertEquals(List.of(newest, middle, oldest), household.getSessions());
+    }
+
+    @Test
+    public void addSession_sameSlot_keepsInsertionOrder() {
+        Session sameSlot = new Session(household.getId(), middle.getDate(), middle.getTime());
+        household.addSession(middle);
+        household.addSession(sameSlot);
+        assertEquals(List.of(middle, sameSlot), household.getSessions());
+    }
+
+    @Test
+    public void addSessions_mergesInOrder() {
+        household.addSession(middle);
+        household.addSessions(List.of(oldest, newest));
+        assertEquals(List.of(newest, middle, oldest), household.getSessions());
+    }
+
+    @Test
+    public void removeSession_presentAndAbsent() {
+        household.addSessions(List.of(oldest, newest));
+        assertTrue(household.removeSession(oldest));
+        assertFalse(household.removeSession(middle));
+        assertEquals(List.of(newest), household.getSessions());
+    }
+
+    @Test
+    public void getSessions_isUnmodifiable() {
+        assertThrows(UnsupportedOperationException.class, () -> household.getSessions().add(oldest));
+    }
+}
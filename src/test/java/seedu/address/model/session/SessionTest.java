@@ -1,10 +1,13 @@
 package seedu.address.model.session;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -118,5 +121,60 @@ class SessionTest {
                 validHouseholdId.toString(), validDate.toString(), validTime.toString(), validNote.toString());
         assertEquals(expectedWithNote, sessionWithNote.toString());
     }
-}
 
+    @Test
+    void getDateAndTime_datesBeforeAndAfterEpoch_sameAsConstructed() {
+        for (String date : List.of("1969-12-31", "1970-01-01", "0001-01-01", "2099-12-31")) {
+            for (String time : List.of("00:00", "23:59", "12:01")) {
+                Session session = new Session(validHouseholdId, new SessionDate(date), new SessionTime(time));
+                assertEquals(new SessionDate(date), session.getDate());
+                assertEquals(new SessionTime(time), session.getTime());
+            }
+        }
+    }
+
+    @Test
+    void constructor_epochMinute_sameAsDateAndTime() {
+        UUID uuid = UUID.randomUUID();
+        Session expected = new Session(uuid, validHouseholdId, validDate, validTime, validNote);
+        Session session = new Session(uuid, validHouseholdId, expected.getEpochMinute(), validNote);
+        assertEquals(expected, session);
+        assertEquals(validDate, session.getDate());
+        assertEquals(validTime, session.getTime());
+        assertEquals(validNote, session.getNote());
+
+        assertThrows(IllegalArgumentException.class, () -> new Session(uuid, validHouseholdId, Long.MAX_VALUE, null));
+        assertFalse(Session.isValidEpochMinute(Long.MIN_VALUE));
+    }
+
+    @Test
+    void getSessionId_notUuid_keptAsGiven() {
+        Session session = new Session("S000001", validHouseholdId, validDate, validTime);
+        assertEquals("S000001", session.getSessionId());
+        assertFalse(session.hasUuidSessionId());
+        assertEquals(Session.toIdKey("S000001"), session.getIdKey());
+        assertNotEquals(Session.toIdKey("S000002"), session.getIdKey());
+
+        // A UUID not in its canonical form is kept as given too.
+        Session nonCanonical = new Session("1-1-1-1-1", validHouseholdId, validDate, validTime);
+        assertEquals("1-1-1-1-1", nonCanonical.getSessionId());
+        assertNotEquals(new Session(UUID.fromString("1-1-1-1-1"), validHouseholdId, validDate, validTime),
+                nonCanonical);
+
+        UUID uuid = UUID.randomUUID();
+        Session uuidSession = new Session(uuid.toString(), validHouseholdId, validDate, validTime);
+        assertTrue(uuidSession.hasUuidSessionId());
+        assertEquals(uuid, uuidSession.getIdKey());
+        assertEquals(new Session(uuid, validHouseholdId, validDate, validTime), uuidSession);
+    }
+
+    @Test
+    void newestFirst_ordersByDateThenTime() {
+        Session older = new Session(validHouseholdId, new SessionDate("2025-03-30"), new SessionTime("23:00"));
+        Session earlier = new Session(validHouseholdId, validDate, new SessionTime("09:00"));
+        Session later = new Session(validHouseholdId, validDate, validTime);
+        List<Session> sessions = new ArrayList<>(List.of(earlier, older, later));
+        sessions.sort(Session.NEWEST_FIRST);
+        assertEquals(List.of(later, earlier, older), sessions);
+    }
+}
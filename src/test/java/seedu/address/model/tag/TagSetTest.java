@@ -0,0 +1,52 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_sameTags_sharedSet() {
+        TagSet tags = TagSet.of(List.of(new Tag("urgent"), new Tag("elderly"), new Tag("urgent")));
+        assertSame(tags, TagSet.of(Set.of(Tag.of("elderly"), Tag.of("urgent"))));
+        assertSame(TagSet.EMPTY, TagSet.of(List.of()));
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void setMethods_sameAsHashSet() {
+        Set<Tag> expected = new HashSet<>(List.of(new Tag("urgent"), new Tag("elderly")));
+        TagSet tags = TagSet.of(expected);
+        assertEquals(expected, tags);
+        assertEquals(tags, expected);
+        assertEquals(expected.hashCode(), tags.hashCode());
+        assertEquals(2, tags.size());
+        assertTrue(tags.contains(new Tag("elderly")));
+        assertFalse(tags.contains(new Tag("disabled")));
+        assertFalse(tags.contains("elderly"));
+    }
+
+    @Test
+    public void iteratorAndToString_sortedByName() {
+        TagSet tags = TagSet.of(List.of(new Tag("urgent"), new Tag("elderly"), new Tag("disabled")));
+        assertEquals(List.of(Tag.of("disabled"), Tag.of("elderly"), Tag.of("urgent")), List.copyOf(tags));
+        assertEquals("[[disabled], [elderly], [urgent]]", tags.toString());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(List.of(new Tag("elderly")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(new Tag("urgent")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(new Tag("elderly")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.iterator().remove());
+    }
+}
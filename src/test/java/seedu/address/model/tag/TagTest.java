@@ -1,5 +1,8 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -24,4 +27,13 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_sameName_registeredTag() {
+        assertSame(Tag.of("elderly"), Tag.of("elderly"));
+        assertEquals(Tag.of("elderly"), new Tag("elderly"));
+        assertEquals(Tag.of("elderly").getOrdinal(), new Tag("elderly").getOrdinal());
+        assertNotEquals(Tag.of("elderly"), Tag.of("Elderly"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+    }
+
 }
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalHouseholds.ALICE_HOUSEHOLD;
+import static seedu.address.testutil.TypicalHouseholds.BOB_HOUSEHOLD;
+import static seedu.address.testutil.TypicalHouseholds.getTypicalHouseholdBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.HouseholdBook;
+import seedu.address.model.ReadOnlyHouseholdBook;
+
+public class AsyncHouseholdBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        JsonHouseholdBookStorage storage = new JsonHouseholdBookStorage(testFolder.resolve("data.json"));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncHouseholdBookSaver(storage, -1));
+    }
+
+    @Test
+    public void flush_afterSubmissions_latestStateWritten() throws Exception {
+        JsonHouseholdBookStorage storage = new JsonHouseholdBookStorage(testFolder.resolve("data.json"));
+        // A long delay keeps the submissions pending until the flush.
+        AsyncHouseholdBookSaver saver = new AsyncHouseholdBookSaver(storage, 60_000);
+        HouseholdBook original = getTypicalHouseholdBook();
+
+        saver.submit(original);
+        original.removeHousehold(ALICE_HOUSEHOLD);
+        saver.submit(original);
+        // Changes after submission must not leak into the saved state.
+        HouseholdBook expected = new HouseholdBook(original);
+        original.removeHousehold(BOB_HOUSEHOLD);
+        saver.close();
+
+        ReadOnlyHouseholdBook readBack = storage.readHouseholdBook().get();
+        assertEquals(expected, new HouseholdBook(readBack));
+    }
+
+    @Test
+    public void flush_saveFailed_throwsIoExceptionUntilSaveSucceeds() throws Exception {
+        // The data file cannot be created because its parent is a regular file.
+        Path blocker = testFolder.resolve("blocker");
+        Files.createFile(blocker);
+        JsonHouseholdBookStorage storage = new JsonHouseholdBookStorage(blocker.resolve("data.json"));
+        AsyncHouseholdBookSaver saver = new AsyncHouseholdBookSaver(storage, 0);
+
+        saver.submit(getTypicalHouseholdBook());
+        assertThrows(IOException.class, saver::flush);
+        assertFalse(saver.pollFailure().isPresent());
+
+        Files.delete(blocker);
+        Files.createDirectory(blocker);
+        saver.submit(getTypicalHouseholdBook());
+        saver.close();
+        assertTrue(storage.readHouseholdBook().isPresent());
+    }
+
+    @Test
+    public void pollFailure_noSubmissions_empty() throws Exception {
+        JsonHouseholdBookStorage storage = new JsonHouseholdBookStorage(testFolder.resolve("data.json"));
+        AsyncHouseholdBookSaver saver = new AsyncHouseholdBookSaver(storage, 0);
+        saver.close();
+        assertTrue(saver.pollFailure().isEmpty());
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.HouseholdBook;
+import seedu.address.model.ReadOnlyHouseholdBook;
+import seedu.address.model.household.Address;
+import seedu.address.model.household.Contact;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.household.Name;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.SessionNote;
+import seedu.address.model.session.SessionTime;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TypicalHouseholds;
+import seedu.address.testutil.TypicalSessions;
+
+public class BinaryHouseholdBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("householdbook.bin");
+    }
+
+    @Test
+    public void readHouseholdBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryHouseholdBookStorage(filePath)
+                .readHouseholdBook((Path) null));
+    }
+
+    @Test
+    public void readHouseholdBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryHouseholdBookStorage(filePath).readHouseholdBook().isPresent());
+    }
+
+    @Test
+    public void readHouseholdBook_jsonFile_throwsDataLoadingException() throws Exception {
+        new JsonHouseholdBookStorage(filePath).saveHouseholdBook(sampleBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryHouseholdBookStorage(filePath).readHouseholdBook());
+    }
+
+    @Test
+    public void saveAndReadHouseholdBook_allInOrder() throws Exception {
+        BinaryHouseholdBookStorage storage = new BinaryHouseholdBookStorage(filePath);
+        HouseholdBook original = sampleBook();
+
+        storage.saveHouseholdBook(original);
+        assertEquals(toJson(original), toJson(storage.readHouseholdBook().get()));
+
+        // Modify data, overwrite existing file, and read back
+        original.removeHousehold(TypicalHouseholds.BOB_HOUSEHOLD);
+        original.addSessionToHousehold(TypicalHouseholds.ALICE_HOUSEHOLD.getId(), new Session(new UUID(0, 9),
+                TypicalHouseholds.ALICE_HOUSEHOLD.getId(), new SessionDate("1969-12-31"), new SessionTime("23:59")));
+        storage.saveHouseholdBook(original);
+        assertEquals(toJson(original), toJson(storage.readHouseholdBook().get()));
+    }
+
+    @Test
+    public void saveHouseholdBook_emptyBook_readsBackEmpty() throws Exception {
+        BinaryHouseholdBookStorage storage = new BinaryHouseholdBookStorage(filePath);
+        storage.saveHouseholdBook(new HouseholdBook());
+        assertEquals(toJson(new HouseholdBook()), toJson(storage.readHouseholdBook().get()));
+    }
+
+    @Test
+    public void saveHouseholdBook_sessionIdNotUuid_throwsIoException() {
+        HouseholdBook book = sampleBook();
+        book.addSessionToHousehold(TypicalHouseholds.ALICE_HOUSEHOLD.getId(), new Session("not-a-uuid",
+                TypicalHouseholds.ALICE_HOUSEHOLD.getId(), new SessionDate("2030-01-01"), new SessionTime("09:00")));
+        assertThrows(IOException.class, () -> new BinaryHouseholdBookStorage(filePath).saveHouseholdBook(book));
+    }
+
+    @Test
+    public void saveHouseholdBook_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("householdbook.json");
+        new JsonHouseholdBookStorage(jsonFilePath, false, 0).saveHouseholdBook(sampleBook());
+        new BinaryHouseholdBookStorage(filePath).saveHouseholdBook(sampleBook());
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readHouseholdBook_anyByteCorrupted_throwsDataLoadingException() throws Exception {
+        new BinaryHouseholdBookStorage(filePath).saveHouseholdBook(sampleBook());
+        byte[] data = Files.readAllBytes(filePath);
+
+        Path corruptedFilePath = testFolder.resolve("corrupted.bin");
+        for (int i = 0; i < data.length; i++) {
+            byte[] corrupted = data.clone();
+            corrupted[i] ^= (byte) 0xFF;
+            Files.write(corruptedFilePath, corrupted);
+            assertThrows(DataLoadingException.class, () -> new BinaryHouseholdBookStorage(corruptedFilePath)
+                    .readHouseholdBook());
+        }
+    }
+
+    @Test
+    public void readHouseholdBook_truncatedAnywhere_throwsDataLoadingException() throws Exception {
+        new BinaryHouseholdBookStorage(filePath).saveHouseholdBook(sampleBook());
+        byte[] data = Files.readAllBytes(filePath);
+
+        Path truncatedFilePath = testFolder.resolve("truncated.bin");
+        for (int length = 0; length < data.length; length++) {
+            Files.write(truncatedFilePath, Arrays.copyOf(data, length));
+            assertThrows(DataLoadingException.class, () -> new BinaryHouseholdBookStorage(truncatedFilePath)
+                    .readHouseholdBook());
+        }
+    }
+
+    @Test
+    public void readHouseholdBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        new BinaryHouseholdBookStorage(filePath).saveHouseholdBook(sampleBook());
+        byte[] data = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(data).putShort(Integer.BYTES, (short) (BinaryHouseholdBookStorage.FORMAT_VERSION + 1));
+        Files.write(filePath, data);
+        assertThrows(DataLoadingException.class, () -> new BinaryHouseholdBookStorage(filePath).readHouseholdBook());
+    }
+
+    /**
+     * Returns a book with tags shared between households, notes, and a session of a household not in the book.
+     */
+    private static HouseholdBook sampleBook() {
+        HouseholdBook book = TypicalHouseholds.getTypicalHouseholdBook();
+        book.addHousehold(new Household(new Name("Carol Family"), new Address("789 Carol Avenue"),
+                new Contact("87654321"), new HouseholdId("H000003"), Set.of(new Tag("elderly"), new Tag("urgent"))));
+        book.addHousehold(new Household(new Name("Dan Family"), new Address("1 Dan Lane"),
+                new Contact("86543210"), new HouseholdId("H000004"), Set.of(new Tag("urgent"))));
+        for (Session session : TypicalSessions.getTypicalSessions()) {
+            book.addSessionToHousehold(session.getHouseholdId(), session);
+        }
+        book.addSessionToHousehold(new HouseholdId("H000003"), new Session(new UUID(1, 2), new HouseholdId("H000003"),
+                new SessionDate("2025-03-15"), new SessionTime("09:15"), new SessionNote("Initial assessment")));
+        book.addSessionToHousehold(new HouseholdId("H000099"), new Session(new UUID(3, 4), new HouseholdId("H000099"),
+                new SessionDate("2025-05-01"), new SessionTime("16:45")));
+        return book;
+    }
+
+    private static String toJson(ReadOnlyHouseholdBook book) throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableHouseholdBook(book));
+    }
+}
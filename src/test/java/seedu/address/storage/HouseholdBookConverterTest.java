@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.UserPrefs.HouseholdBookFormat;
+
+public class HouseholdBookConverterTest {
+    private static final Path VALID_JSON_FILE = Paths.get("src", "test", "data", "JsonHouseholdBookStorageTest",
+            "validHouseholdWithSessionsBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void formatOf_byFileName() {
+        assertEquals(HouseholdBookFormat.JSON, HouseholdBookConverter.formatOf(Paths.get("data", "book.json")));
+        assertEquals(HouseholdBookFormat.BINARY, HouseholdBookConverter.formatOf(Paths.get("data", "book.bin")));
+        assertEquals(HouseholdBookFormat.BINARY, HouseholdBookConverter.formatOf(Paths.get("json")));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("original.json");
+        Path binaryFilePath = testFolder.resolve("householdbook.bin");
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        new JsonHouseholdBookStorage(jsonFilePath).saveHouseholdBook(
+                new JsonHouseholdBookStorage(VALID_JSON_FILE).readHouseholdBook().get());
+
+        assertTrue(HouseholdBookConverter.convert(new JsonHouseholdBookStorage(jsonFilePath),
+                new BinaryHouseholdBookStorage(binaryFilePath)));
+        assertTrue(HouseholdBookConverter.convert(new BinaryHouseholdBookStorage(binaryFilePath),
+                new JsonHouseholdBookStorage(exportedFilePath)));
+
+        assertArrayEquals(Files.readAllBytes(jsonFilePath), Files.readAllBytes(exportedFilePath));
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        Path targetFilePath = testFolder.resolve("householdbook.bin");
+        assertFalse(HouseholdBookConverter.convert(new JsonHouseholdBookStorage(testFolder.resolve("missing.json")),
+                new BinaryHouseholdBookStorage(targetFilePath)));
+        assertFalse(Files.exists(targetFilePath));
+    }
+}
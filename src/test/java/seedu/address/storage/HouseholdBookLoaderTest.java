@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyHouseholdBook;
+import seedu.address.model.household.Address;
+import seedu.address.model.household.Contact;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.household.Name;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.SessionTime;
+
+public class HouseholdBookLoaderTest {
+    private static final int HOUSEHOLD_COUNT = 3 * HouseholdBookLoader.CHUNK_SIZE + 7;
+    private static final int REPEATS = 20;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void build_validElements_keepsFileOrder() throws Exception {
+        HouseholdBookLoader loader = new HouseholdBookLoader(pool);
+        // Sessions may come before their households.
+        for (int i = 0; i < HOUSEHOLD_COUNT; i++) {
+            Session session = session(i, i);
+            loader.addSession(() -> session);
+        }
+        for (int i = 0; i < HOUSEHOLD_COUNT; i++) {
+            Household household = household(i);
+            loader.addHousehold(() -> household);
+        }
+
+        ReadOnlyHouseholdBook book = loader.build();
+        assertEquals(HOUSEHOLD_COUNT, book.getHouseholdList().size());
+        assertEquals(HOUSEHOLD_COUNT, book.getSessionList().size());
+        for (int i = 0; i < HOUSEHOLD_COUNT; i++) {
+            assertEquals(household(i).getId(), book.getHouseholdList().get(i).getId());
+            assertEquals(session(i, i).getSessionId(), book.getSessionList().get(i).getSessionId());
+            assertEquals(1, book.getHouseholdList().get(i).getSessions().size());
+        }
+    }
+
+    @Test
+    public void build_severalInvalidElements_reportsFirstInFileOrder() {
+        for (int repeat = 0; repeat < REPEATS; repeat++) {
+            HouseholdBookLoader loader = new HouseholdBookLoader(pool);
+            for (int i = 0; i < HOUSEHOLD_COUNT; i++) {
+                int position = i;
+                loader.addHousehold(() -> {
+                    if (position == 5 || position == HOUSEHOLD_COUNT - 1) {
+                        throw new IllegalValueException("invalid " + position);
+                    }
+                    return household(position);
+                });
+            }
+            assertThrows(IllegalValueException.class, "invalid 5", loader::build);
+        }
+    }
+
+    @Test
+    public void build_duplicateBeforeInvalidElement_reportsDuplicate() {
+        for (int repeat = 0; repeat < REPEATS; repeat++) {
+            HouseholdBookLoader loader = new HouseholdBookLoader(pool);
+            for (int i = 0; i < HOUSEHOLD_COUNT; i++) {
+                int position = i;
+                loader.addHousehold(() -> {
+                    if (position == HOUSEHOLD_COUNT - 1) {
+                        throw new IllegalValueException("invalid " + position);
+                    }
+                    // The element in the last chunk but one repeats the name of the first element.
+                    return position == 2 * HouseholdBookLoader.CHUNK_SIZE
+                            ? new Household(new Name("Family 0"), new Address("Other Street"),
+                                    new Contact("99999999"), new HouseholdId("H999999"), Set.of())
+                            : household(position);
+                });
+            }
+            assertThrows(IllegalValueException.class, JsonSerializableHouseholdBook.MESSAGE_DUPLICATE_HOUSEHOLD,
+                    loader::build);
+        }
+    }
+
+    @Test
+    public void build_invalidElementBeforeDuplicate_reportsInvalidElement() {
+        for (int repeat = 0; repeat < REPEATS; repeat++) {
+            HouseholdBookLoader loader = new HouseholdBookLoader(pool);
+            for (int i = 0; i < HOUSEHOLD_COUNT; i++) {
+                Household household = household(i);
+                loader.addHousehold(() -> household);
+            }
+            for (int i = 0; i < HOUSEHOLD_COUNT; i++) {
+                int position = i;
+                loader.addSession(() -> {
+                    if (position == HouseholdBookLoader.CHUNK_SIZE) {
+                        throw new IllegalValueException("invalid session");
+                    }
+                    // The last session repeats the ID of the first session.
+                    return session(position, position == HOUSEHOLD_COUNT - 1 ? 0 : position);
+                });
+            }
+            assertThrows(IllegalValueException.class, "invalid session", loader::build);
+        }
+    }
+
+    private static Household household(int n) {
+        return new Household(new Name("Family " + n), new Address("Blk " + n + " Loader Street"),
+                new Contact(String.format("8%07d", n)), new HouseholdId(String.format("H%06d", n + 1)), Set.of());
+    }
+
+    private static Session session(int householdNumber, int n) {
+        return new Session(new UUID(0, n), household(householdNumber).getId(),
+                new SessionDate(String.format("2030-01-%02d", n % 28 + 1)), new SessionTime("10:00"));
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.address.storage.JsonAdaptedSession.MISSING_FIELD_MESSAGE_FOR
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalSessions.SESSION_ONE;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,34 @@ public class JsonAdaptedSessionTest {
         assertEquals(SESSION_ONE, session.toModelType());
     }
 
+    @Test
+    public void toModelType_datesAndTimesAroundEpoch_sameAsSession() throws Exception {
+        // Years without four digits are written as SessionDate writes them.
+        for (String date : List.of("-0001-12-31", "0000-03-01", "0001-01-01", "1900-02-28", "1969-12-31",
+                "1970-01-01", "2000-02-29", "2024-02-29", "9999-12-31", "+10000-01-01")) {
+            for (String time : List.of("00:00", "09:05", "23:59")) {
+                Session expected = new Session(UUID.randomUUID(), SESSION_ONE.getHouseholdId(),
+                        new SessionDate(date), new SessionTime(time));
+                Session session = new JsonAdaptedSession(expected).toModelType();
+                assertEquals(expected, session);
+                assertEquals(expected.getSessionId(), session.getSessionId());
+                assertEquals(expected.getDate(), session.getDate());
+                assertEquals(expected.getTime(), session.getTime());
+            }
+        }
+    }
+
+    @Test
+    public void toModelType_extremeUuids_sameSessionId() throws Exception {
+        for (UUID uuid : List.of(new UUID(0, 0), new UUID(-1, -1), new UUID(Long.MIN_VALUE, Long.MAX_VALUE),
+                UUID.fromString("0123abcd-4567-89ef-fedc-ba9876543210"))) {
+            Session expected = new Session(uuid, SESSION_ONE.getHouseholdId(), SESSION_ONE.getDate(),
+                    SESSION_ONE.getTime());
+            assertEquals(uuid.toString(), new JsonAdaptedSession(expected).getSessionId());
+            assertEquals(expected, new JsonAdaptedSession(expected).toModelType());
+        }
+    }
+
     @Test
     public void toModelType_invalidSessionId_throwsIllegalValueException() {
         JsonAdaptedSession session =
@@ -6,16 +6,26 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.HouseholdBook;
 import seedu.address.model.ReadOnlyHouseholdBook;
+import seedu.address.model.household.Address;
+import seedu.address.model.household.Contact;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.household.Name;
 import seedu.address.testutil.TypicalHouseholds;
 
 public class JsonHouseholdBookStorageTest {
@@ -96,6 +106,43 @@ public class JsonHouseholdBookStorageTest {
         // Additional validation could be done here to check the content
     }
 
+    @Test
+    public void readHouseholdBook_sessionsBeforeHouseholdsAndUnknownFields_success() throws Exception {
+        Path filePath = testFolder.resolve("reordered.json");
+        Files.writeString(filePath, "{ \"version\": { \"major\": 1 }, \"sessions\": [ {"
+                + " \"sessionId\": \"317d2a70-9bb1-41cf-8bd2-5bc0f974cd5f\", \"householdId\": \"H000001\","
+                + " \"date\": \"2025-03-15\", \"time\": \"14:30\" } ],"
+                + " \"households\": [ { \"id\": \"H000001\", \"name\": \"Tan Family\","
+                + " \"address\": \"123 Main St\", \"contact\": \"98765432\", \"tags\": [ \"elderly\" ] } ] }");
+
+        HouseholdBook readBack = new HouseholdBook(new JsonHouseholdBookStorage(filePath).readHouseholdBook().get());
+        assertEquals(1, readBack.getHouseholdList().size());
+        assertEquals(1, readBack.getHouseholdById(new HouseholdId("H000001")).get().getSessions().size());
+    }
+
+    @Test
+    public void readHouseholdBook_nullLists_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("nullLists.json");
+        Files.writeString(filePath, "{ \"households\": null, \"sessions\": null }");
+        assertTrue(new JsonHouseholdBookStorage(filePath).readHouseholdBook().get().getHouseholdList().isEmpty());
+    }
+
+    @Test
+    public void readHouseholdBook_nullHousehold_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("nullHousehold.json");
+        Files.writeString(filePath, "{ \"households\": [ null ] }");
+        assertThrows(DataLoadingException.class, () -> new JsonHouseholdBookStorage(filePath).readHouseholdBook());
+    }
+
+    @Test
+    public void readHouseholdBook_duplicateSession_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("duplicateSession.json");
+        String session = "{ \"sessionId\": \"317d2a70-9bb1-41cf-8bd2-5bc0f974cd5f\", \"householdId\": \"H000001\","
+                + " \"date\": \"2025-03-15\", \"time\": \"14:30\" }";
+        Files.writeString(filePath, "{ \"sessions\": [ " + session + ", " + session + " ] }");
+        assertThrows(DataLoadingException.class, () -> new JsonHouseholdBookStorage(filePath).readHouseholdBook());
+    }
+
     @Test
     public void readAndSaveHouseholdBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("tempHouseholdBook.json");
@@ -120,6 +167,94 @@ public class JsonHouseholdBookStorageTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void saveHouseholdBook_prettyPrinted_sameAsSerializedHouseholdBook() throws Exception {
+        Path filePath = testFolder.resolve("pretty.json");
+        ReadOnlyHouseholdBook original = new JsonHouseholdBookStorage(
+                addToTestDataPathIfNotNull("validHouseholdWithSessionsBook.json")).readHouseholdBook().get();
+        new JsonHouseholdBookStorage(filePath).saveHouseholdBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableHouseholdBook(original)),
+                Files.readString(filePath));
+    }
+
+    @Test
+    public void saveHouseholdBook_notPrettyPrinted_singleLineReadBack() throws Exception {
+        Path filePath = testFolder.resolve("compact.json");
+        ReadOnlyHouseholdBook original = new JsonHouseholdBookStorage(
+                addToTestDataPathIfNotNull("validHouseholdWithSessionsBook.json")).readHouseholdBook().get();
+        JsonHouseholdBookStorage storage = new JsonHouseholdBookStorage(filePath, false, 0);
+        storage.saveHouseholdBook(original);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        ReadOnlyHouseholdBook readBack = storage.readHouseholdBook().get();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableHouseholdBook(original)),
+                JsonUtil.toJsonString(new JsonSerializableHouseholdBook(readBack)));
+    }
+
+    @Test
+    public void saveHouseholdBook_existingFile_keepsBackupGenerations() throws Exception {
+        Path filePath = testFolder.resolve("rotated.json");
+        JsonHouseholdBookStorage storage = new JsonHouseholdBookStorage(filePath, true, 2);
+        for (int size = 0; size <= 3; size++) {
+            storage.saveHouseholdBook(bookOfSize(size));
+        }
+
+        assertEquals(3, householdCount(filePath));
+        assertEquals(2, householdCount(JsonHouseholdBookStorage.getBackupFilePath(filePath, 1)));
+        assertEquals(1, householdCount(JsonHouseholdBookStorage.getBackupFilePath(filePath, 2)));
+        assertFalse(Files.exists(JsonHouseholdBookStorage.getBackupFilePath(filePath, 3)));
+        assertFalse(Files.exists(filePath.resolveSibling("rotated.json.tmp")));
+    }
+
+    @Test
+    public void readHouseholdBook_corruptedFile_recoversNewestLoadableBackup() throws Exception {
+        Path filePath = testFolder.resolve("corrupted.json");
+        JsonHouseholdBookStorage storage = new JsonHouseholdBookStorage(filePath, true, 2);
+        for (int size = 1; size <= 3; size++) {
+            storage.saveHouseholdBook(bookOfSize(size));
+        }
+
+        truncateHalf(filePath);
+        assertEquals(2, storage.readHouseholdBook().get().getHouseholdList().size());
+        truncateHalf(JsonHouseholdBookStorage.getBackupFilePath(filePath, 1));
+        assertEquals(1, storage.readHouseholdBook().get().getHouseholdList().size());
+        truncateHalf(JsonHouseholdBookStorage.getBackupFilePath(filePath, 2));
+        assertThrows(DataLoadingException.class, storage::readHouseholdBook);
+    }
+
+    @Test
+    public void readHouseholdBook_crashBeforeReplacingFile_recoversTemporaryFile() throws Exception {
+        Path filePath = testFolder.resolve("interrupted.json");
+        JsonHouseholdBookStorage storage = new JsonHouseholdBookStorage(filePath, true, 1);
+        storage.saveHouseholdBook(bookOfSize(1));
+        storage.saveHouseholdBook(bookOfSize(2));
+        // The file was moved to the backup, but the fully written temporary file was not yet moved into place.
+        new JsonHouseholdBookStorage(filePath.resolveSibling("interrupted.json.tmp"), true, 0)
+                .saveHouseholdBook(bookOfSize(3));
+        Files.move(filePath, JsonHouseholdBookStorage.getBackupFilePath(filePath, 1),
+                StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals(3, storage.readHouseholdBook().get().getHouseholdList().size());
+    }
+
+    private static HouseholdBook bookOfSize(int size) {
+        HouseholdBook book = new HouseholdBook();
+        for (int i = 1; i <= size; i++) {
+            book.addHousehold(new Household(new Name("Family " + i), new Address("Blk " + i + " Backup Street"),
+                    new Contact(String.format("8%07d", i)), new HouseholdId(String.format("H%06d", i)), Set.of()));
+        }
+        return book;
+    }
+
+    private static int householdCount(Path filePath) throws Exception {
+        return new JsonHouseholdBookStorage(filePath, true, 0).readHouseholdBook().get().getHouseholdList().size();
+    }
+
+    private static void truncateHalf(Path filePath) throws IOException {
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+    }
+
     @Test
     public void saveHouseholdBook_nullHouseholdBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveHouseholdBook(null, "SomeFile.json"));
@@ -0,0 +1,354 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.HouseholdBook;
+import seedu.address.model.ReadOnlyHouseholdBook;
+import seedu.address.model.household.Address;
+import seedu.address.model.household.Contact;
+import seedu.address.model.household.Household;
+import seedu.address.model.household.HouseholdId;
+import seedu.address.model.household.Name;
+import seedu.address.model.session.Session;
+import seedu.address.model.session.SessionDate;
+import seedu.address.model.session.SessionNote;
+import seedu.address.model.session.SessionTime;
+
+public class JsonJournalHouseholdBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("householdbook.json");
+        journalFilePath = JsonJournalHouseholdBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonJournalHouseholdBookStorage(filePath, 0));
+    }
+
+    @Test
+    public void readHouseholdBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JsonJournalHouseholdBookStorage(filePath).readHouseholdBook().isPresent());
+    }
+
+    @Test
+    public void saveHouseholdBook_firstSave_writesSnapshotOnly() throws Exception {
+        new JsonJournalHouseholdBookStorage(filePath).saveHouseholdBook(sampleBook());
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        // The snapshot stays readable by the plain json storage.
+        assertEquals(toJson(sampleBook()),
+                toJson(new JsonHouseholdBookStorage(filePath).readHouseholdBook().get()));
+    }
+
+    @Test
+    public void saveHouseholdBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JsonJournalHouseholdBookStorage storage = new JsonJournalHouseholdBookStorage(filePath);
+        HouseholdBook book = sampleBook();
+        storage.saveHouseholdBook(book);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        for (Runnable change : changes(book)) {
+            change.run();
+            storage.saveHouseholdBook(book);
+        }
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(toJson(book), toJson(new JsonJournalHouseholdBookStorage(filePath).readHouseholdBook().get()));
+    }
+
+    @Test
+    public void saveHouseholdBook_unchangedBook_journalNotWritten() throws Exception {
+        JsonJournalHouseholdBookStorage storage = new JsonJournalHouseholdBookStorage(filePath);
+        HouseholdBook book = sampleBook();
+        storage.saveHouseholdBook(book);
+        storage.saveHouseholdBook(book);
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveHouseholdBook_afterRead_appendsToExistingJournal() throws Exception {
+        HouseholdBook book = sampleBook();
+        List<Runnable> changes = changes(book);
+        JsonJournalHouseholdBookStorage storage = new JsonJournalHouseholdBookStorage(filePath);
+        storage.saveHouseholdBook(book);
+        changes.get(0).run();
+        storage.saveHouseholdBook(book);
+
+        // A new instance continues from the data it has read.
+        JsonJournalHouseholdBookStorage reopened = new JsonJournalHouseholdBookStorage(filePath);
+        HouseholdBook reloaded = new HouseholdBook(reopened.readHouseholdBook().get());
+        byte[] snapshot = Files.readAllBytes(filePath);
+        for (Runnable change : changes(reloaded).subList(1, changes.size())) {
+            change.run();
+            reopened.saveHouseholdBook(reloaded);
+        }
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(toJson(reloaded),
+                toJson(new JsonJournalHouseholdBookStorage(filePath).readHouseholdBook().get()));
+    }
+
+    @Test
+    public void saveHouseholdBook_householdRemovedAndAddedAgain_orderKept() throws Exception {
+        JsonJournalHouseholdBookStorage storage = new JsonJournalHouseholdBookStorage(filePath);
+        HouseholdBook book = sampleBook();
+        storage.saveHouseholdBook(book);
+        book.removeHousehold(book.getHouseholdList().get(0));
+        book.addHousehold(household(1));
+        book.addSessionToHousehold(household(1).getId(), session(1, 3));
+        storage.saveHouseholdBook(book);
+
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(toJson(book), toJson(new JsonJournalHouseholdBookStorage(filePath).readHouseholdBook().get()));
+    }
+
+    @Test
+    public void saveHouseholdBook_thresholdReached_compactsJournal() throws Exception {
+        JsonJournalHouseholdBookStorage storage = new JsonJournalHouseholdBookStorage(filePath, 3);
+        HouseholdBook book = sampleBook();
+        storage.saveHouseholdBook(book);
+        List<Runnable> changes = changes(book);
+
+        changes.get(0).run();
+        storage.saveHouseholdBook(book);
+        assertTrue(Files.exists(journalFilePath));
+        changes.get(1).run();
+        changes.get(2).run();
+        storage.saveHouseholdBook(book);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(toJson(book), toJson(new JsonHouseholdBookStorage(filePath).readHouseholdBook().get()));
+    }
+
+    @Test
+    public void saveHouseholdBook_compactions_snapshotWrittenAsConfigured() throws Exception {
+        JsonJournalHouseholdBookStorage storage = new JsonJournalHouseholdBookStorage(filePath, false, 1, 1);
+        HouseholdBook book = sampleBook();
+        storage.saveHouseholdBook(book);
+        String firstSnapshot = Files.readString(filePath);
+        changes(book).get(0).run();
+        storage.saveHouseholdBook(book);
+
+        assertFalse(Files.readString(filePath).contains("\n"));
+        assertEquals(firstSnapshot, Files.readString(JsonHouseholdBookStorage.getBackupFilePath(filePath, 1)));
+        assertFalse(Files.exists(JsonHouseholdBookStorage.getBackupFilePath(filePath, 2)));
+
+        // A snapshot that cannot be loaded is recovered from its backup, as by the plain json storage.
+        Files.writeString(filePath, "{");
+        assertEquals(toJson(sampleBook()),
+                toJson(new JsonJournalHouseholdBookStorage(filePath, false, 1, 1).readHouseholdBook().get()));
+    }
+
+    @Test
+    public void saveHouseholdBook_otherPath_writesSnapshotOnly() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        JsonJournalHouseholdBookStorage storage = new JsonJournalHouseholdBookStorage(filePath);
+        storage.saveHouseholdBook(sampleBook(), otherFilePath);
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(JsonJournalHouseholdBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(toJson(sampleBook()), toJson(storage.readHouseholdBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void readHouseholdBook_journalTruncatedAnywhere_recoversLastCommittedState() throws Exception {
+        JsonJournalHouseholdBookStorage storage = new JsonJournalHouseholdBookStorage(filePath);
+        HouseholdBook book = sampleBook();
+        storage.saveHouseholdBook(book);
+        List<String> states = new ArrayList<>();
+        List<Long> committedLengths = new ArrayList<>();
+        states.add(toJson(book));
+        committedLengths.add(0L);
+        for (Runnable change : changes(book)) {
+            change.run();
+            storage.saveHouseholdBook(book);
+            states.add(toJson(book));
+            committedLengths.add(Files.size(journalFilePath));
+        }
+        byte[] snapshot = Files.readAllBytes(filePath);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+
+        // Every truncated journal is read once, so the storage and json loggers would log each of them.
+        Logger appLogger = LogsCenter.getLogger(JsonJournalHouseholdBookStorage.class).getParent();
+        Level previousLevel = appLogger.getLevel();
+        appLogger.setLevel(Level.SEVERE);
+        try {
+            for (int length = 0; length <= journal.length; length++) {
+                Path crashFolder = Files.createDirectory(testFolder.resolve("crash" + length));
+                Path crashFilePath = crashFolder.resolve("householdbook.json");
+                Files.write(crashFilePath, snapshot);
+                Files.write(JsonJournalHouseholdBookStorage.getJournalFilePath(crashFilePath),
+                        Arrays.copyOf(journal, length));
+
+                int committedGroups = 0;
+                while (committedGroups + 1 < committedLengths.size()
+                        && committedLengths.get(committedGroups + 1) <= length) {
+                    committedGroups++;
+                }
+                ReadOnlyHouseholdBook recovered = new JsonJournalHouseholdBookStorage(crashFilePath)
+                        .readHouseholdBook().get();
+                assertEquals(states.get(committedGroups), toJson(recovered),
+                        "journal truncated to " + length + " bytes");
+            }
+        } finally {
+            appLogger.setLevel(previousLevel);
+        }
+    }
+
+    @Test
+    public void readHouseholdBook_crashBeforeJournalDeleted_ignoresStaleJournal() throws Exception {
+        JsonJournalHouseholdBookStorage storage = new JsonJournalHouseholdBookStorage(filePath, 2);
+        HouseholdBook book = sampleBook();
+        storage.saveHouseholdBook(book);
+        Household added = household(3);
+        book.addHousehold(added);
+        storage.saveHouseholdBook(book);
+        byte[] staleJournal = Files.readAllBytes(journalFilePath);
+        book.removeHousehold(added);
+        storage.saveHouseholdBook(book);
+        assertFalse(Files.exists(journalFilePath));
+
+        // Simulate a crash after the compacted snapshot was moved into place but before the journal was deleted.
+        Files.write(journalFilePath, staleJournal);
+        JsonJournalHouseholdBookStorage reopened = new JsonJournalHouseholdBookStorage(filePath, 2);
+        HouseholdBook recovered = new HouseholdBook(reopened.readHouseholdBook().get());
+        assertEquals(toJson(book), toJson(recovered));
+
+        // The first save after reading replaces the stale journal.
+        recovered.addHousehold(household(4));
+        reopened.saveHouseholdBook(recovered);
+        assertEquals(toJson(recovered),
+                toJson(new JsonJournalHouseholdBookStorage(filePath, 2).readHouseholdBook().get()));
+    }
+
+    @Test
+    public void saveHouseholdBook_afterRecoveringTornJournal_discardsTornRecords() throws Exception {
+        JsonJournalHouseholdBookStorage storage = new JsonJournalHouseholdBookStorage(filePath);
+        HouseholdBook book = sampleBook();
+        storage.saveHouseholdBook(book);
+        List<Runnable> changes = changes(book);
+        changes.get(0).run();
+        storage.saveHouseholdBook(book);
+        long committedLength = Files.size(journalFilePath);
+        changes.get(1).run();
+        storage.saveHouseholdBook(book);
+        // Simulate a crash halfway through writing the second group.
+        long tornLength = (committedLength + Files.size(journalFilePath)) / 2;
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE)) {
+            channel.truncate(tornLength);
+        }
+
+        JsonJournalHouseholdBookStorage reopened = new JsonJournalHouseholdBookStorage(filePath);
+        HouseholdBook recovered = new HouseholdBook(reopened.readHouseholdBook().get());
+        recovered.addHousehold(household(9));
+        reopened.saveHouseholdBook(recovered);
+
+        assertEquals(toJson(recovered),
+                toJson(new JsonJournalHouseholdBookStorage(filePath).readHouseholdBook().get()));
+    }
+
+    @Test
+    public void readHouseholdBook_malformedCommittedRecord_throwsDataLoadingException() throws Exception {
+        JsonJournalHouseholdBookStorage storage = new JsonJournalHouseholdBookStorage(filePath);
+        HouseholdBook book = sampleBook();
+        storage.saveHouseholdBook(book);
+        for (Runnable change : changes(book)) {
+            change.run();
+            storage.saveHouseholdBook(book);
+        }
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        journal[1] = '#';
+        Files.write(journalFilePath, journal);
+
+        assertThrows(DataLoadingException.class, () -> new JsonJournalHouseholdBookStorage(filePath)
+                .readHouseholdBook());
+    }
+
+    @Test
+    public void readHouseholdBook_invalidCommittedRecord_throwsDataLoadingException() throws Exception {
+        new JsonJournalHouseholdBookStorage(filePath).saveHouseholdBook(sampleBook());
+        Files.writeString(journalFilePath, "{\"op\":\"header\",\"generation\":1}\n"
+                + "{\"op\":\"deleteHousehold\"}\n{\"op\":\"commit\"}\n");
+
+        assertThrows(DataLoadingException.class, () -> new JsonJournalHouseholdBookStorage(filePath)
+                .readHouseholdBook());
+    }
+
+    private static HouseholdBook sampleBook() {
+        HouseholdBook book = new HouseholdBook();
+        book.addHousehold(household(1));
+        book.addHousehold(household(2));
+        book.addSessionToHousehold(household(1).getId(), session(1, 1));
+        book.addSessionToHousehold(household(2).getId(), session(2, 2));
+        return book;
+    }
+
+    /**
+     * Returns one change of each kind that a command can make to {@code book}, to be run in order.
+     */
+    private static List<Runnable> changes(HouseholdBook book) {
+        return List.of(
+            () -> book.addHousehold(household(3)),
+            () -> book.addSessionToHousehold(household(3).getId(), session(3, 3)),
+            () -> book.updateHousehold(book.getHouseholdById(household(1).getId()).get(),
+                    new Household(new Name("Renamed Family"), new Address("Blk 1 Journal Street"),
+                            new Contact("80000001"), household(1).getId(), Set.of())), () -> {
+                Session old = book.getSessionById(sessionId(1)).get();
+                book.removeSessionById(old.getSessionId());
+                book.addSessionToHousehold(old.getHouseholdId(), new Session(old.getSessionId(),
+                        old.getHouseholdId(), old.getDate(), old.getTime(), new SessionNote("Edited note")));
+            },
+            () -> book.removeSessionById(sessionId(2)),
+            () -> book.removeHousehold(book.getHouseholdById(household(3).getId()).get()));
+    }
+
+    private static Household household(int n) {
+        return new Household(new Name("Family " + n), new Address("Blk " + n + " Journal Street"),
+                new Contact(String.format("8%07d", n)), new HouseholdId(String.format("H%06d", n)), Set.of());
+    }
+
+    private static String sessionId(int n) {
+        return new UUID(0, n).toString();
+    }
+
+    private static Session session(int householdNumber, int n) {
+        return new Session(sessionId(n), household(householdNumber).getId(),
+                new SessionDate(String.format("2030-01-%02d", n)), new SessionTime("10:00"));
+    }
+
+    private static String toJson(ReadOnlyHouseholdBook book) throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableHouseholdBook(book));
+    }
+}